@@ -0,0 +1,234 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.analysis.ParallelismAnalyzer;
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.ReportClock;
+import com.codementorsdev.qmeter.model.RetryStats;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Writes periodic checkpoint reports while a run is still in progress.
+ * <p>
+ * Recording threads only append finished test cases to a lock-free queue; a finished case is never
+ * modified again, so the queue hands over a stable snapshot without copying. Each checkpoint drains the
+ * queue, writes the new cases of every changed suite as one delta chunk ({@code checkpoint/chunk-NNNNN.js})
+ * and rewrites the small running summary ({@code checkpoint/summary.js}). The checkpoint page loads all
+ * chunks and is written only once. Checkpoint files left by an earlier run are deleted up front, as the page
+ * would otherwise load their chunks alongside the new ones.
+ */
+class ReportCheckpointer {
+    static final String PAGE_FILE_NAME = "checkpoint.html";
+    static final String CHECKPOINT_DIRECTORY = "checkpoint";
+
+    private final ReportConfig config;
+    private final List<TestSuite> suites;
+    private final long overallStartTime;
+    private final Queue<FinishedCase> finished = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService scheduler;
+
+    // Running totals, only touched by checkpoint() under its lock
+    private final StatusCounts counts = new StatusCounts();
+    private final RetryStats retries = new RetryStats();
+    private final Map<TestSuite, TestSuite> finishedSuites = new LinkedHashMap<>(); // Suite -> its finished cases, for parallelism
+    private long minStartTime = Long.MAX_VALUE;
+    private long maxEndTime = Long.MIN_VALUE;
+    private int chunkCount;
+
+    ReportCheckpointer(ReportConfig config, List<TestSuite> suites, long overallStartTime) {
+        this.config = config;
+        this.suites = suites;
+        this.overallStartTime = overallStartTime;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "qmeter-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        deletePreviousCheckpoint(config.getOutputDirectory());
+    }
+
+    private static void deletePreviousCheckpoint(Path outputPath) {
+        Path checkpointPath = outputPath.resolve(CHECKPOINT_DIRECTORY);
+        try {
+            Files.deleteIfExists(outputPath.resolve(PAGE_FILE_NAME));
+            if (!Files.isDirectory(checkpointPath)) {
+                return;
+            }
+            try (Stream<Path> files = Files.list(checkpointPath)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to delete previous checkpoint: " + e.getMessage());
+        }
+    }
+
+    void start(Duration interval) {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (RuntimeException e) {
+                // Keep the schedule alive; the next checkpoint picks up the same cases
+                System.err.println("Checkpoint failed: " + e.getMessage());
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the schedule and writes a last checkpoint, so the checkpoint page includes every finished test case.
+     */
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            System.err.println("Final checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Called from recording threads when a test case ends. Never blocks.
+     */
+    void caseFinished(TestSuite suite, TestCase testCase) {
+        finished.add(new FinishedCase(suite, testCase));
+    }
+
+    /**
+     * Writes a checkpoint containing every test case finished since the previous one.
+     * Does nothing when no test case has finished in the meantime.
+     */
+    synchronized void checkpoint() {
+        Map<TestSuite, List<TestCase>> changed = new LinkedHashMap<>();
+        List<FinishedCase> drained = new ArrayList<>();
+        FinishedCase next;
+        while ((next = finished.poll()) != null) {
+            drained.add(next);
+            changed.computeIfAbsent(next.suite, k -> new ArrayList<>()).add(next.testCase);
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        Path outputPath = config.getOutputDirectory();
+        Path checkpointPath = outputPath.resolve(CHECKPOINT_DIRECTORY);
+        try {
+            Files.createDirectories(checkpointPath);
+            if (chunkCount == 0) {
+                ReportGenerator.copyViewerScripts(outputPath);
+                Files.write(outputPath.resolve(PAGE_FILE_NAME), ReportHtmlTemplate.getCheckpointHtmlTemplate().getBytes(StandardCharsets.UTF_8));
+            }
+
+            Path chunkFile = checkpointPath.resolve(String.format("chunk-%05d.js", chunkCount + 1));
+            writeChunk(chunkFile, changed);
+        } catch (IOException e) {
+            // Put the cases back so the next checkpoint retries them
+            finished.addAll(drained);
+            System.err.println("Failed to write checkpoint: " + e.getMessage());
+            return;
+        }
+
+        chunkCount++;
+        for (FinishedCase fc : drained) {
+            counts.add(fc.testCase.getStatus());
+            retries.add(fc.suite, fc.testCase);
+            finishedSuites.computeIfAbsent(fc.suite, suite -> new TestSuite(suite.getName(), new ArrayList<>()))
+                    .getTestCases().add(fc.testCase);
+            if (fc.testCase.getStartTime() < minStartTime) minStartTime = fc.testCase.getStartTime();
+            if (fc.testCase.getEndTime() > maxEndTime) maxEndTime = fc.testCase.getEndTime();
+        }
+        try {
+            writeSummary(checkpointPath);
+            System.out.println("Checkpoint " + chunkCount + " written: " + drained.size() + " test case(s) in " + changed.size() + " suite(s)");
+        } catch (IOException e) {
+            // The chunk is already on disk; the next checkpoint rewrites the summary to include it
+            System.err.println("Failed to write checkpoint summary: " + e.getMessage());
+        }
+    }
+
+    private void writeChunk(Path chunkFile, Map<TestSuite, List<TestCase>> changed) throws IOException {
+        try (OutputStream out = Files.newOutputStream(chunkFile);
+             JsonGenerator gen = ReportJson.createGenerator(out)) {
+            gen.writeRaw("window.REPORT_CHUNKS.push(");
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("suites");
+            for (Map.Entry<TestSuite, List<TestCase>> entry : changed.entrySet()) {
+                gen.writeStartObject();
+                gen.writeStringField("id", entry.getKey().getId());
+                gen.writeStringField("name", entry.getKey().getName());
+                gen.writeArrayFieldStart("testCases");
+                for (TestCase testCase : entry.getValue()) {
+                    gen.writeObject(testCase);
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.writeRaw(");\n");
+        }
+    }
+
+    private void writeSummary(Path checkpointPath) throws IOException {
+        long now = ReportClock.currentTimeMillis();
+        Summary summary = new Summary(
+                suites.size(),
+                counts,
+                now - overallStartTime,
+                minStartTime,
+                maxEndTime,
+                config.getEnvironment(),
+                config.getPlatform()
+        );
+        summary.setRetries(retries);
+        // Recomputed over every finished case, as the critical path and idle gaps can change anywhere in the run
+        summary.setParallelism(ParallelismAnalyzer.analyze(new ArrayList<>(finishedSuites.values())));
+
+        // Written to a temporary file and moved into place so a refreshing browser never sees half a summary
+        Path tempFile = checkpointPath.resolve("summary.js.tmp");
+        try (OutputStream out = Files.newOutputStream(tempFile);
+             JsonGenerator gen = ReportJson.createGenerator(out)) {
+            gen.writeRaw("window.REPORT_CHUNK_COUNT = " + chunkCount + ";\nwindow.REPORT_SUMMARY = ");
+            gen.writeObject(summary);
+            gen.writeRaw(";\n");
+        }
+        Files.move(tempFile, checkpointPath.resolve("summary.js"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static class FinishedCase {
+        final TestSuite suite;
+        final TestCase testCase;
+
+        FinishedCase(TestSuite suite, TestCase testCase) {
+            this.suite = suite;
+            this.testCase = testCase;
+        }
+    }
+}
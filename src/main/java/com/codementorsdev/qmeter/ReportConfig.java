@@ -1,19 +1,34 @@
 package com.codementorsdev.qmeter;
 
+import com.codementorsdev.qmeter.export.ReportExporter;
+import com.codementorsdev.qmeter.model.StepSamplingPolicy;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class ReportConfig {
     private Path outputDirectory;
     private String reportFileName;
     private String environment;
     private String platform;
+    private List<ReportExporter> exporters;
+    private Duration checkpointInterval;
+    private StepSamplingPolicy stepSampling;
+    private boolean offHeapLogs;
 
     private ReportConfig(Builder builder) {
         this.outputDirectory = builder.outputDirectory;
         this.reportFileName = builder.reportFileName;
         this.environment = builder.environment;
         this.platform = builder.platform;
+        this.exporters = Collections.unmodifiableList(new ArrayList<>(builder.exporters));
+        this.checkpointInterval = builder.checkpointInterval;
+        this.stepSampling = builder.stepSampling;
+        this.offHeapLogs = builder.offHeapLogs;
     }
 
     public Path getOutputDirectory() {
@@ -32,6 +47,22 @@ public class ReportConfig {
         return platform;
     }
 
+    public List<ReportExporter> getExporters() {
+        return exporters;
+    }
+
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public StepSamplingPolicy getStepSampling() {
+        return stepSampling;
+    }
+
+    public boolean isOffHeapLogs() {
+        return offHeapLogs;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -41,6 +72,10 @@ public class ReportConfig {
         private String reportFileName = "report.html"; // Default report file name
         private String environment = "Unknown";
         private String platform = "Unknown";
+        private final List<ReportExporter> exporters = new ArrayList<>(); // Additional formats written on flush
+        private Duration checkpointInterval; // Checkpoints disabled unless set
+        private StepSamplingPolicy stepSampling = StepSamplingPolicy.keepAll();
+        private boolean offHeapLogs; // Log and event text kept as heap Strings unless enabled
 
         public Builder outputDirectory(String path) {
             this.outputDirectory = Paths.get(path);
@@ -67,6 +102,43 @@ public class ReportConfig {
             return this;
         }
 
+        public Builder exporter(ReportExporter exporter) {
+            this.exporters.add(exporter);
+            return this;
+        }
+
+        /**
+         * Enables periodic checkpoint reports (checkpoint.html in the output directory) for long runs.
+         * Each checkpoint only writes the test cases finished since the previous one.
+         * @param interval Time between checkpoints.
+         */
+        public Builder checkpointInterval(Duration interval) {
+            if (interval != null && (interval.isNegative() || interval.isZero())) {
+                throw new IllegalArgumentException("Checkpoint interval must be positive: " + interval);
+            }
+            this.checkpointInterval = interval;
+            return this;
+        }
+
+        /**
+         * Limits how many steps are kept per test case, for cases that record very many steps.
+         * @param policy The sampling policy; defaults to {@link StepSamplingPolicy#keepAll()}.
+         */
+        public Builder stepSampling(StepSamplingPolicy policy) {
+            this.stepSampling = policy;
+            return this;
+        }
+
+        /**
+         * Stores log messages and event messages as UTF-8 in off-heap buffers until the report is flushed,
+         * for runs whose log volume would otherwise dominate the heap.
+         * @param enabled Whether to store log text off-heap.
+         */
+        public Builder offHeapLogs(boolean enabled) {
+            this.offHeapLogs = enabled;
+            return this;
+        }
+
         public ReportConfig build() {
             return new ReportConfig(this);
         }
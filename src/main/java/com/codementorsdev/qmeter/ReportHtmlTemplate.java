@@ -1,8 +1,7 @@
 package com.codementorsdev.qmeter;
 
 public class ReportHtmlTemplate {
-    public static String getHtmlTemplate() {
-        return """
+    private static final String HEAD = """
             <!DOCTYPE html>
             <html lang="en">
             <head>
@@ -20,14 +19,45 @@ public class ReportHtmlTemplate {
                 </style>
             </head>
             <body>
+            """;
+
+    public static String getHtmlTemplate() {
+        return HEAD + """
+                <div id="root"></div>
+                <script>
+                    window.REPORT_DATA = %s;
+                </script>
+                <script src="js/utils.js"></script>
+                <script src="js/report-app.js"></script>
+            </body>
+            </html>
+            """;
+    }
+
+    /**
+     * Page for checkpoint reports. The data lives next to it in checkpoint/summary.js and one
+     * checkpoint/chunk-NNNNN.js per checkpoint; the page itself never changes, so each checkpoint
+     * only writes its new chunk and the summary.
+     */
+    public static String getCheckpointHtmlTemplate() {
+        return HEAD + """
                 <div id="root"></div>
                 <script>
-                    const REPORT_DATA = %s;
+                    window.REPORT_CHUNKS = [];
+                </script>
+                <script src="checkpoint/summary.js"></script>
+                <script>
+                    for (let i = 1; i <= window.REPORT_CHUNK_COUNT; i++) {
+                        document.write('<script src="checkpoint/chunk-' + String(i).padStart(5, '0') + '.js"><\\/script>');
+                    }
                 </script>
                 <script src="js/utils.js"></script>
+                <script>
+                    window.REPORT_DATA = mergeReportChunks(window.REPORT_SUMMARY, window.REPORT_CHUNKS);
+                </script>
                 <script src="js/report-app.js"></script>
             </body>
             </html>
             """;
     }
-}
\ No newline at end of file
+}
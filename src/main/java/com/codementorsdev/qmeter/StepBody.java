@@ -0,0 +1,10 @@
+package com.codementorsdev.qmeter;
+
+/**
+ * The body of a step timed by {@link ReportGenerator#timeStep}.
+ * @param <E> The checked exception the body may throw.
+ */
+@FunctionalInterface
+public interface StepBody<E extends Exception> {
+    void run() throws E;
+}
@@ -0,0 +1,69 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.model.Status;
+
+import java.time.Duration;
+
+/**
+ * Times a step with the monotonic clock and records it when closed, so callers never compute durations.
+ * <pre>
+ * try (StepTimer step = generator.startStep(testCaseId, "GET /orders")) {
+ *     Response response = client.get("/orders");
+ *     if (response.status() != 200) step.fail();
+ * }
+ * </pre>
+ * The step is recorded as passed unless a different status is set before it is closed. A try-with-resources
+ * block closes the timer before any catch block runs, so an exception thrown by the body does not change the
+ * status; use {@link ReportGenerator#timeStep} for bodies that can throw.
+ */
+public class StepTimer implements AutoCloseable {
+    private final ReportGenerator generator;
+    private final String testCaseId;
+    private final String description;
+    private final long startNanos;
+    private Status status = Status.PASS;
+    private boolean closed;
+
+    StepTimer(ReportGenerator generator, String testCaseId, String description) {
+        this.generator = generator;
+        this.testCaseId = testCaseId;
+        this.description = description;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @param status The status to record the step with.
+     * @return This timer.
+     */
+    public StepTimer status(Status status) {
+        this.status = status;
+        return this;
+    }
+
+    public StepTimer fail() {
+        return status(Status.FAIL);
+    }
+
+    public StepTimer error() {
+        return status(Status.ERROR);
+    }
+
+    /**
+     * @return The time elapsed since the step started.
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records the step with the elapsed time. Only the first call has an effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        generator.addStep(testCaseId, description, status, elapsed());
+    }
+}
@@ -0,0 +1,27 @@
+package com.codementorsdev.qmeter.analysis;
+
+/**
+ * A test case on the critical path of a run.
+ */
+public class CriticalPathEntry {
+    private final String testCaseId;
+    private final String name;
+    private final String suiteName;
+    private final long startTime;
+    private final long endTime;
+
+    public CriticalPathEntry(String testCaseId, String name, String suiteName, long startTime, long endTime) {
+        this.testCaseId = testCaseId;
+        this.name = name;
+        this.suiteName = suiteName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public String getTestCaseId() { return testCaseId; }
+    public String getName() { return name; }
+    public String getSuiteName() { return suiteName; }
+    public long getStartTime() { return startTime; }
+    public long getEndTime() { return endTime; }
+    public long getDuration() { return endTime - startTime; }
+}
@@ -0,0 +1,18 @@
+package com.codementorsdev.qmeter.analysis;
+
+/**
+ * A period within a run during which no test case was running.
+ */
+public class IdleGap {
+    private final long startTime;
+    private final long endTime;
+
+    public IdleGap(long startTime, long endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public long getStartTime() { return startTime; }
+    public long getEndTime() { return endTime; }
+    public long getDuration() { return endTime - startTime; }
+}
@@ -0,0 +1,262 @@
+package com.codementorsdev.qmeter.analysis;
+
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Computes {@link ParallelismStats} from the start and end times of the test cases of a run.
+ * <p>
+ * Start and end times are sorted once and swept in order, keeping a running count of test cases in flight;
+ * the count gives peak parallelism, idle gaps and a downsampled concurrency timeline in a single pass.
+ * The critical path is then traced backwards from the test case that ended last: each step moves to the
+ * test case that ended last before the current one started, found by binary search over the end times.
+ * Apart from the sorts, everything is linear in the number of test cases.
+ */
+public final class ParallelismAnalyzer {
+    public static final int TIMELINE_BUCKETS = 200;
+    public static final int IDLE_GAP_LIMIT = 10;
+    public static final int CRITICAL_PATH_LIMIT = 500;
+
+    private ParallelismAnalyzer() {}
+
+    public static ParallelismStats analyze(List<TestSuite> suites) {
+        return analyze(suites, TIMELINE_BUCKETS);
+    }
+
+    /**
+     * @param suites The suites of the run. Test cases that have not ended are ignored.
+     * @param timelineBuckets The maximum number of points in the concurrency timeline.
+     * @return The statistics; all zero if no test case has ended.
+     */
+    public static ParallelismStats analyze(List<TestSuite> suites, int timelineBuckets) {
+        ParallelismStats stats = new ParallelismStats();
+        Span[] spans = collectSpans(suites);
+        int n = spans.length;
+        stats.testCases = n;
+        if (n == 0) {
+            return stats;
+        }
+
+        Arrays.sort(spans, Comparator.comparingLong(span -> span.end));
+        long[] ends = new long[n];
+        int instantCount = 0;
+        stats.startTime = Long.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            ends[i] = spans[i].end;
+            stats.totalTestTime += spans[i].end - spans[i].start;
+            stats.startTime = Math.min(stats.startTime, spans[i].start);
+            if (spans[i].end == spans[i].start) instantCount++;
+        }
+        stats.endTime = ends[n - 1];
+        long wallTime = stats.endTime - stats.startTime;
+        stats.averageParallelism = wallTime > 0 ? (double) stats.totalTestTime / wallTime : n;
+
+        // Zero-length test cases are swept separately, so their end can never be taken before their own start
+        long[] starts = new long[n - instantCount];
+        long[] rangeEnds = new long[n - instantCount];
+        long[] instants = new long[instantCount];
+        int ranges = 0;
+        int zeroLength = 0;
+        for (Span span : spans) {
+            if (span.end == span.start) {
+                instants[zeroLength++] = span.start;
+            } else {
+                starts[ranges] = span.start;
+                rangeEnds[ranges++] = span.end;
+            }
+        }
+        Arrays.sort(starts); // Ends and instants are already in order, as the spans are sorted by end
+
+        sweep(stats, starts, rangeEnds, instants, timelineBuckets);
+        traceCriticalPath(stats, spans, ends);
+        return stats;
+    }
+
+    private static Span[] collectSpans(List<TestSuite> suites) {
+        List<Span> spans = new ArrayList<>();
+        for (TestSuite suite : suites) {
+            for (TestCase testCase : suite.getTestCases()) {
+                // Running test cases have no end time yet
+                if (testCase.getEndTime() > 0 && testCase.getEndTime() >= testCase.getStartTime()) {
+                    spans.add(new Span(testCase.getStartTime(), testCase.getEndTime(), testCase, suite.getName()));
+                }
+            }
+        }
+        return spans.toArray(new Span[0]);
+    }
+
+    private static void sweep(ParallelismStats stats, long[] starts, long[] ends, long[] instants, int timelineBuckets) {
+        int n = starts.length;
+        int m = instants.length;
+        long wallTime = stats.endTime - stats.startTime;
+        Timeline timeline = wallTime > 0 && timelineBuckets > 0 ? new Timeline(stats.startTime, stats.endTime, timelineBuckets) : null;
+        PriorityQueue<IdleGap> longestGaps = new PriorityQueue<>(Comparator.comparingLong(IdleGap::getDuration));
+
+        int running = 0;
+        long time = stats.startTime;
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < n || j < n || k < m) {
+            // At equal times ends go first, so back-to-back test cases do not count as overlapping,
+            // and zero-length test cases go last, so they count as overlapping everything running at that instant
+            boolean isEnd = j < n && (i >= n || ends[j] <= starts[i]) && (k >= m || ends[j] <= instants[k]);
+            boolean isStart = !isEnd && i < n && (k >= m || starts[i] <= instants[k]);
+            long next = isEnd ? ends[j] : isStart ? starts[i] : instants[k];
+            if (next > time) {
+                if (running > 0) {
+                    stats.busyTime += next - time;
+                    if (timeline != null) timeline.add(time, next, running);
+                } else {
+                    stats.idleGapCount++;
+                    stats.idleTime += next - time;
+                    longestGaps.add(new IdleGap(time, next));
+                    if (longestGaps.size() > IDLE_GAP_LIMIT) longestGaps.poll();
+                }
+                time = next;
+            }
+            if (isEnd) {
+                running--;
+                j++;
+            } else if (isStart) {
+                running++;
+                i++;
+                if (running > stats.peakParallelism) {
+                    stats.peakParallelism = running;
+                    stats.peakTime = time;
+                }
+            } else {
+                int simultaneous = 0;
+                while (k < m && instants[k] == time) {
+                    simultaneous++;
+                    k++;
+                }
+                if (timeline != null) timeline.mark(time, running + simultaneous);
+                if (running + simultaneous > stats.peakParallelism) {
+                    stats.peakParallelism = running + simultaneous;
+                    stats.peakTime = time;
+                }
+            }
+        }
+
+        List<IdleGap> gaps = new ArrayList<>(longestGaps);
+        gaps.sort(Comparator.comparingLong(IdleGap::getDuration).reversed());
+        stats.longestIdleGaps = gaps;
+        if (timeline != null) {
+            stats.timelineBucketWidth = timeline.width;
+            stats.timelineAverage = timeline.averages();
+            stats.timelinePeak = timeline.peak;
+        }
+    }
+
+    private static void traceCriticalPath(ParallelismStats stats, Span[] spans, long[] ends) {
+        List<CriticalPathEntry> path = new ArrayList<>();
+        int current = spans.length - 1;
+        while (true) {
+            Span span = spans[current];
+            stats.criticalPathLength++;
+            if (path.size() < CRITICAL_PATH_LIMIT) {
+                path.add(new CriticalPathEntry(span.testCase.getId(), span.testCase.getName(), span.suiteName, span.start, span.end));
+            }
+            stats.criticalPathDuration = stats.endTime - span.start;
+            // The predecessor is the test case that ended last before this one started
+            int predecessor = upperBound(ends, current, span.start) - 1;
+            if (predecessor < 0) {
+                break;
+            }
+            stats.criticalPathWaitTime += span.start - ends[predecessor];
+            current = predecessor;
+        }
+        // Traced from the end backwards; when truncated this keeps the entries closest to the end of the run
+        Collections.reverse(path);
+        stats.criticalPath = path;
+    }
+
+    /**
+     * @return The first index in {@code [0, limit)} whose value is greater than {@code key}, or {@code limit}.
+     */
+    private static int upperBound(long[] sorted, int limit, long key) {
+        int low = 0;
+        int high = limit;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Span {
+        final long start;
+        final long end;
+        final TestCase testCase;
+        final String suiteName;
+
+        Span(long start, long end, TestCase testCase, String suiteName) {
+            this.start = start;
+            this.end = end;
+            this.testCase = testCase;
+            this.suiteName = suiteName;
+        }
+    }
+
+    /**
+     * Fixed-width buckets accumulating concurrency-weighted time and the highest concurrency seen.
+     * Every swept segment touches only the buckets it overlaps, so filling the timeline is linear overall.
+     */
+    private static final class Timeline {
+        final long start;
+        final long end;
+        final long width;
+        final double[] area;
+        final int[] peak;
+
+        Timeline(long start, long end, int maxBuckets) {
+            this.start = start;
+            this.end = end;
+            long wallTime = end - start;
+            this.width = Math.max(1, (wallTime + maxBuckets - 1) / maxBuckets);
+            int buckets = (int) ((wallTime + width - 1) / width);
+            this.area = new double[buckets];
+            this.peak = new int[buckets];
+        }
+
+        void add(long from, long to, int running) {
+            int first = (int) ((from - start) / width);
+            int last = (int) ((to - 1 - start) / width);
+            for (int b = first; b <= last; b++) {
+                long bucketStart = start + b * width;
+                long overlap = Math.min(to, bucketStart + width) - Math.max(from, bucketStart);
+                area[b] += (double) running * overlap;
+                if (running > peak[b]) peak[b] = running;
+            }
+        }
+
+        /**
+         * Records the concurrency of an instant, as reached by zero-length test cases. Adds no time.
+         */
+        void mark(long at, int running) {
+            int b = Math.min(peak.length - 1, (int) ((at - start) / width));
+            if (running > peak[b]) peak[b] = running;
+        }
+
+        double[] averages() {
+            double[] averages = new double[area.length];
+            for (int b = 0; b < area.length; b++) {
+                long bucketStart = start + b * width;
+                averages[b] = area[b] / (Math.min(end, bucketStart + width) - bucketStart);
+            }
+            return averages;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.codementorsdev.qmeter.analysis;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How well a run used parallel execution, computed by {@link ParallelismAnalyzer} from the start and end
+ * times of its test cases. All times are Unix timestamps or durations in milliseconds.
+ */
+public class ParallelismStats {
+    int testCases; // Test cases with a valid time range
+    long startTime; // Start of the first test case
+    long endTime; // End of the last test case
+    long totalTestTime; // Sum of all test case durations
+    long busyTime; // Time with at least one test case running
+    double averageParallelism; // totalTestTime / (endTime - startTime)
+    int peakParallelism;
+    long peakTime; // When the peak was first reached
+    int idleGapCount;
+    long idleTime;
+    List<IdleGap> longestIdleGaps = Collections.emptyList();
+
+    long criticalPathDuration; // From the start of the first to the end of the last test case on the path
+    long criticalPathWaitTime; // Time on the path between one test case ending and the next starting
+    int criticalPathLength;
+    List<CriticalPathEntry> criticalPath = Collections.emptyList(); // Oldest first, at most CRITICAL_PATH_LIMIT entries
+
+    long timelineBucketWidth;
+    double[] timelineAverage = new double[0]; // Mean number of running test cases per bucket
+    int[] timelinePeak = new int[0]; // Most test cases running at once per bucket
+
+    ParallelismStats() {}
+
+    public int getTestCases() { return testCases; }
+    public long getStartTime() { return startTime; }
+    public long getEndTime() { return endTime; }
+    public long getWallTime() { return endTime - startTime; }
+    public long getTotalTestTime() { return totalTestTime; }
+    public long getBusyTime() { return busyTime; }
+    public double getAverageParallelism() { return averageParallelism; }
+    public int getPeakParallelism() { return peakParallelism; }
+    public long getPeakTime() { return peakTime; }
+    public int getIdleGapCount() { return idleGapCount; }
+    public long getIdleTime() { return idleTime; }
+    public List<IdleGap> getLongestIdleGaps() { return longestIdleGaps; }
+    public long getCriticalPathDuration() { return criticalPathDuration; }
+    public long getCriticalPathWaitTime() { return criticalPathWaitTime; }
+    public int getCriticalPathLength() { return criticalPathLength; }
+    public List<CriticalPathEntry> getCriticalPath() { return criticalPath; }
+    public long getTimelineBucketWidth() { return timelineBucketWidth; }
+    public double[] getTimelineAverage() { return timelineAverage; }
+    public int[] getTimelinePeak() { return timelinePeak; }
+}
@@ -0,0 +1,105 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exports one CSV row per test case (RFC 4180 quoting), suitable for spreadsheets and bulk loaders.
+ */
+public class CsvExporter implements ReportExporter {
+    private static final String HEADER = "suite,test_case,status,environment,platform,start_time,end_time,duration_ms,steps,logs,events";
+
+    private final String fileName;
+
+    public CsvExporter() {
+        this("report.csv");
+    }
+
+    public CsvExporter(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public Sink open(OutputStream out, Summary summary) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+        return new CsvSink(writer);
+    }
+
+    private static class CsvSink implements Sink {
+        private final Writer writer;
+
+        CsvSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void beginSuite(TestSuite suite) {
+        }
+
+        @Override
+        public void testCase(TestSuite suite, TestCase testCase) throws IOException {
+            writeField(suite.getName());
+            writer.write(',');
+            writeField(testCase.getName());
+            writer.write(',');
+            writeField(testCase.getStatus() == null ? null : testCase.getStatus().getLabel());
+            writer.write(',');
+            writeField(testCase.getEnvironment());
+            writer.write(',');
+            writeField(testCase.getPlatform());
+            writer.write(',');
+            writer.write(Long.toString(testCase.getStartTime()));
+            writer.write(',');
+            writer.write(Long.toString(testCase.getEndTime()));
+            writer.write(',');
+            writer.write(Long.toString(testCase.getDuration()));
+            writer.write(',');
+            writer.write(Long.toString(testCase.getRecordedStepCount())); // Including steps only kept as summaries
+            writer.write(',');
+            writer.write(Integer.toString(testCase.getLogCount()));
+            writer.write(',');
+            writer.write(Integer.toString(testCase.getEvents() == null ? 0 : testCase.getEvents().size()));
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) return;
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void endSuite(TestSuite suite) {
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Exports the run as JUnit XML ({@code <testsuites>/<testsuite>/<testcase>}), streamed with StAX.
+ * Fail maps to {@code <failure>}, Error to {@code <error>} and Skip to {@code <skipped>}; logs go to {@code <system-out>}.
+ */
+public class JUnitXmlExporter implements ReportExporter {
+    private static final XMLOutputFactory XML_OUTPUT = XMLOutputFactory.newFactory();
+    // Local time without a zone, as Ant and Surefire write it and the JUnit XML schema expects
+    static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss", Locale.ROOT).withZone(ZoneId.systemDefault());
+
+    private final String fileName;
+
+    public JUnitXmlExporter() {
+        this("junit-report.xml");
+    }
+
+    public JUnitXmlExporter(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public Sink open(OutputStream out, Summary summary) throws IOException {
+        try {
+            XMLStreamWriter xml = XML_OUTPUT.createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("testsuites");
+            xml.writeAttribute("tests", String.valueOf(summary.getTotalTestCases()));
+            xml.writeAttribute("failures", String.valueOf(summary.getFail()));
+            xml.writeAttribute("errors", String.valueOf(summary.getError()));
+            xml.writeAttribute("skipped", String.valueOf(summary.getSkip()));
+            xml.writeAttribute("time", seconds(summary.getTotalExecutionTime()));
+            return new XmlSink(xml);
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to start JUnit XML export", e);
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
+    }
+
+    /**
+     * Drops characters XML 1.0 cannot represent at all, not even escaped (e.g. the ESC of ANSI colour codes).
+     * StAX would write them through and produce a file no parser accepts. A null text is written as empty.
+     */
+    static String xmlSafe(String text) {
+        if (text == null) return "";
+        int i = 0;
+        while (i < text.length() && isXmlChar(text.charAt(i)) && !Character.isSurrogate(text.charAt(i))) i++;
+        if (i == text.length()) return text;
+
+        StringBuilder safe = new StringBuilder(text.length());
+        safe.append(text, 0, i);
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (isXmlChar(codePoint)) safe.appendCodePoint(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return safe.toString();
+    }
+
+    /**
+     * @return The failure message: the status, the first failing step when one was kept, and where it ran.
+     */
+    static String failureMessage(TestCase testCase) {
+        StringBuilder message = new StringBuilder(testCase.getStatus().getLabel());
+        List<TestStep> steps = testCase.getSteps();
+        if (steps != null) {
+            for (TestStep step : steps) {
+                if (step.getStatus() != null && step.getStatus().isFailure()) {
+                    message.append(" at step \"").append(step.getDescription()).append('"');
+                    break;
+                }
+            }
+        }
+        return message.append(" in ").append(testCase.getEnvironment()).append(" on ").append(testCase.getPlatform()).toString();
+    }
+
+    private static boolean isXmlChar(int c) {
+        return c == 0x9 || c == 0xA || c == 0xD
+                || (c >= 0x20 && c <= 0xD7FF)
+                || (c >= 0xE000 && c <= 0xFFFD)
+                || (c >= 0x10000 && c <= 0x10FFFF);
+    }
+
+    private static class XmlSink implements Sink {
+        private final XMLStreamWriter xml;
+
+        XmlSink(XMLStreamWriter xml) {
+            this.xml = xml;
+        }
+
+        @Override
+        public void beginSuite(TestSuite suite) throws IOException {
+            StatusCounts counts = suite.countStatuses();
+            try {
+                xml.writeStartElement("testsuite");
+                xml.writeAttribute("name", xmlSafe(suite.getName()));
+                xml.writeAttribute("tests", String.valueOf(counts.getTotal()));
+                xml.writeAttribute("failures", String.valueOf(counts.get(Status.FAIL)));
+                xml.writeAttribute("errors", String.valueOf(counts.get(Status.ERROR)));
+                xml.writeAttribute("skipped", String.valueOf(counts.get(Status.SKIP)));
+                xml.writeAttribute("time", seconds(suite.getDuration()));
+                xml.writeAttribute("timestamp", TIMESTAMP.format(Instant.ofEpochMilli(suite.getStartTime())));
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void testCase(TestSuite suite, TestCase testCase) throws IOException {
+            try {
+                xml.writeStartElement("testcase");
+                xml.writeAttribute("name", xmlSafe(testCase.getName()));
+                xml.writeAttribute("classname", xmlSafe(suite.getName()));
+                xml.writeAttribute("time", seconds(testCase.getDuration()));
+                Status status = testCase.getStatus();
+                if (status == Status.FAIL || status == Status.ERROR) {
+                    xml.writeStartElement(status == Status.FAIL ? "failure" : "error");
+                    xml.writeAttribute("message", xmlSafe(failureMessage(testCase)));
+                    xml.writeEndElement();
+                } else if (status == Status.SKIP) {
+                    xml.writeEmptyElement("skipped");
+                }
+                List<String> logs = testCase.getLogs();
+                if (logs != null && !logs.isEmpty()) {
+                    xml.writeStartElement("system-out");
+                    for (String log : logs) {
+                        xml.writeCharacters(xmlSafe(log));
+                        xml.writeCharacters("\n");
+                    }
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void endSuite(TestSuite suite) throws IOException {
+            try {
+                xml.writeEndElement();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                xml.writeEndElement();
+                xml.writeEndDocument();
+                xml.flush();
+                xml.close(); // Does not close the underlying stream
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
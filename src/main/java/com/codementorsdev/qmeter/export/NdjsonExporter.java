@@ -0,0 +1,71 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exports newline-delimited JSON: one line per test case holding the suite id and name and the full
+ * test case as it appears in the HTML report. Written with a streaming {@link JsonGenerator}.
+ */
+public class NdjsonExporter implements ReportExporter {
+    private final String fileName;
+
+    public NdjsonExporter() {
+        this("report.ndjson");
+    }
+
+    public NdjsonExporter(String fileName) {
+        this.fileName = fileName;
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public Sink open(OutputStream out, Summary summary) throws IOException {
+        JsonGenerator gen = ReportJson.createGenerator(out);
+        gen.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        return new NdjsonSink(gen);
+    }
+
+    private static class NdjsonSink implements Sink {
+        private final JsonGenerator gen;
+
+        NdjsonSink(JsonGenerator gen) {
+            this.gen = gen;
+        }
+
+        @Override
+        public void beginSuite(TestSuite suite) {
+        }
+
+        @Override
+        public void testCase(TestSuite suite, TestCase testCase) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("suiteId", suite.getId());
+            gen.writeStringField("suiteName", suite.getName());
+            gen.writeFieldName("testCase");
+            gen.writeObject(testCase);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void endSuite(TestSuite suite) {
+        }
+
+        @Override
+        public void close() throws IOException {
+            gen.writeRaw('\n');
+            gen.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Runs a set of exporters over the recorded suites in one pass. Every output file is open at the same
+ * time and each test case is handed to all sinks before moving on, so the model is walked once no matter
+ * how many formats are configured. A failing exporter is reported and dropped without affecting the others.
+ * Each export is written to a temporary file and moved into place once complete, so a dropped exporter
+ * leaves no half-written file behind and an earlier export of the same name is kept.
+ */
+public final class ReportExport {
+
+    private ReportExport() {
+    }
+
+    public static void run(Path outputDirectory, List<ReportExporter> exporters, List<TestSuite> suites, Summary summary) {
+        List<Target> targets = new ArrayList<>();
+        for (ReportExporter exporter : exporters) {
+            Path file = outputDirectory.resolve(exporter.getFileName());
+            Path tempFile = null;
+            OutputStream out = null;
+            try {
+                tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+                out = new BufferedOutputStream(Files.newOutputStream(tempFile));
+                targets.add(new Target(file, tempFile, out, exporter.open(out, summary)));
+            } catch (IOException | RuntimeException e) {
+                // Exporters are pluggable, so unchecked failures are isolated the same way
+                System.err.println("Failed to start export " + file + ": " + e);
+                closeQuietly(out);
+                deleteQuietly(tempFile);
+            }
+        }
+
+        for (TestSuite suite : suites) {
+            forEach(targets, target -> target.sink.beginSuite(suite));
+            if (suite.getTestCases() != null) {
+                for (TestCase testCase : suite.getTestCases()) {
+                    forEach(targets, target -> target.sink.testCase(suite, testCase));
+                }
+            }
+            forEach(targets, target -> target.sink.endSuite(suite));
+        }
+
+        for (Target target : targets) {
+            try {
+                target.sink.close();
+                target.out.close();
+                Files.move(target.tempFile, target.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                System.out.println("Exported report to: " + target.file.toAbsolutePath());
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to finish export " + target.file + ": " + e);
+                closeQuietly(target.out);
+                deleteQuietly(target.tempFile);
+            }
+        }
+    }
+
+    private static void forEach(List<Target> targets, SinkCall call) {
+        for (Iterator<Target> it = targets.iterator(); it.hasNext(); ) {
+            Target target = it.next();
+            try {
+                call.accept(target);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Export " + target.file + " failed and was abandoned: " + e);
+                closeQuietly(target.out);
+                deleteQuietly(target.tempFile);
+                it.remove();
+            }
+        }
+    }
+
+    private static void closeQuietly(OutputStream out) {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Already failing; the original error has been reported
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Failed to delete incomplete export " + file + ": " + e);
+        }
+    }
+
+    private interface SinkCall {
+        void accept(Target target) throws IOException;
+    }
+
+    private static class Target {
+        final Path file;
+        final Path tempFile;
+        final OutputStream out;
+        final ReportExporter.Sink sink;
+
+        Target(Path file, Path tempFile, OutputStream out, ReportExporter.Sink sink) {
+            this.file = file;
+            this.tempFile = tempFile;
+            this.out = out;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the recorded run in an additional format alongside the HTML report.
+ * Exporters are registered on {@code ReportConfig} and driven by {@code ReportGenerator.flushReport()}:
+ * every exporter gets its own output file, and all of them are fed from a single traversal of the suites.
+ */
+public interface ReportExporter {
+
+    /**
+     * @return The name of the file to write, relative to the report output directory.
+     */
+    String getFileName();
+
+    /**
+     * Starts an export. The returned sink receives every suite and test case in report order.
+     * @param out The stream to write to. It is owned and closed by the caller.
+     * @param summary The summary of the run, available before any test case is written.
+     * @return A sink for this export.
+     * @throws IOException If the output cannot be started.
+     */
+    Sink open(OutputStream out, Summary summary) throws IOException;
+
+    interface Sink extends Closeable {
+        void beginSuite(TestSuite suite) throws IOException;
+
+        void testCase(TestSuite suite, TestCase testCase) throws IOException;
+
+        void endSuite(TestSuite suite) throws IOException;
+
+        /**
+         * Finishes the document. Must flush but not close the underlying stream.
+         */
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -0,0 +1,75 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.SymbolTable;
+import com.codementorsdev.qmeter.model.TextArena;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Base class for the report model serializers, holding the field writers they share.
+ */
+abstract class ModelSerializer<T> extends StdSerializer<T> {
+    // Scratch space for copying off-heap text into the generator; per thread since serializers are shared
+    private static final ThreadLocal<byte[]> TEXT_SCRATCH = ThreadLocal.withInitial(() -> new byte[8192]);
+    static final int MAX_SCRATCH_SIZE = 64 * 1024; // Larger texts get a one-off array, so one huge log is not held per thread
+
+    ModelSerializer(Class<T> type) {
+        super(type);
+    }
+
+    /**
+     * Writes the status as its report label; a missing status is written as null.
+     */
+    static void writeStatus(JsonGenerator gen, Status status) throws IOException {
+        if (status == null) {
+            gen.writeNullField("status");
+        } else {
+            gen.writeStringField("status", status.getLabel());
+        }
+    }
+
+    /**
+     * Writes a dictionary-encoded field: the value's position in the report string table when a
+     * {@link SymbolTable} is attached to the writer and knows the value, the plain string otherwise.
+     */
+    static void writeSymbol(JsonGenerator gen, SerializerProvider provider, String field, String value) throws IOException {
+        SymbolTable symbols = (SymbolTable) provider.getAttribute(SymbolTable.class);
+        int id = symbols == null ? -1 : symbols.idOf(value);
+        if (id >= 0) {
+            gen.writeNumberField(field, id);
+        } else {
+            gen.writeStringField(field, value);
+        }
+    }
+
+    /**
+     * Writes a text stored in a {@link TextArena} as a JSON string value. The UTF-8 bytes are copied
+     * into a reused scratch array and handed to the generator as they are, never decoded to a String.
+     * Only byte-based generators accept raw UTF-8; character-based ones get the decoded text.
+     * The scratch array grows up to {@link #MAX_SCRATCH_SIZE}; a longer text is copied into an array that is
+     * dropped after the write. A JSON string value cannot be written in several raw UTF-8 pieces, so it is not sliced.
+     */
+    static void writeArenaText(JsonGenerator gen, TextArena arena, int ref) throws IOException {
+        if (!(gen instanceof UTF8JsonGenerator)) {
+            gen.writeString(arena.get(ref));
+            return;
+        }
+        byte[] scratch = TEXT_SCRATCH.get();
+        int length = arena.length(ref);
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, Math.min(scratch.length * 2, MAX_SCRATCH_SIZE))];
+            if (scratch.length <= MAX_SCRATCH_SIZE) TEXT_SCRATCH.set(scratch);
+        }
+        arena.copy(ref, scratch);
+        gen.writeUTF8String(scratch, 0, length);
+    }
+
+    static int scratchSize() {
+        return TEXT_SCRATCH.get().length;
+    }
+}
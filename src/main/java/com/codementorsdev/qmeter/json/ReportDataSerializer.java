@@ -0,0 +1,43 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.ReportData;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class ReportDataSerializer extends ModelSerializer<ReportData> {
+    private final TestSuiteSerializer suiteSerializer = new TestSuiteSerializer();
+    private final SummarySerializer summarySerializer = new SummarySerializer();
+
+    ReportDataSerializer() {
+        super(ReportData.class);
+    }
+
+    @Override
+    public void serialize(ReportData value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", value.getId());
+        // The string table comes first so streaming readers can resolve references as they go
+        if (value.getSymbols() != null) {
+            gen.writeArrayFieldStart("strings");
+            for (String symbol : value.getSymbols().toArray()) {
+                gen.writeString(symbol);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeArrayFieldStart("suites");
+        if (value.getSuites() != null) {
+            for (TestSuite suite : value.getSuites()) {
+                suiteSerializer.serialize(suite, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+        if (value.getSummary() != null) {
+            gen.writeFieldName("summary");
+            summarySerializer.serialize(value.getSummary(), gen, provider);
+        }
+        gen.writeEndObject();
+    }
+}
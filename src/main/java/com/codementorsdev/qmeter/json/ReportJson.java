@@ -0,0 +1,123 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.ReportData;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.SymbolTable;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestEvent;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Shared Jackson configuration for writing report data.
+ * The mapper and writer are built once and reused by every flush; the model classes are
+ * written by the hand-written serializers in this package instead of reflective bean serialization.
+ * <p>
+ * Report JSON is embedded in inline {@code <script>} elements, so {@code <}, {@code >} and {@code &} are
+ * always written as Unicode escapes; a log line containing {@code </script>} cannot end the script early.
+ */
+public final class ReportJson {
+
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ObjectWriter WRITER = MAPPER.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectReader READER = MAPPER.reader();
+
+    private ReportJson() {
+    }
+
+    private static ObjectMapper createMapper() {
+        SimpleModule module = new SimpleModule("qmeter-model");
+        module.addSerializer(ReportData.class, new ReportDataSerializer());
+        module.addSerializer(Summary.class, new SummarySerializer());
+        module.addSerializer(TestSuite.class, new TestSuiteSerializer());
+        module.addSerializer(TestCase.class, new TestCaseSerializer());
+        module.addSerializer(TestStep.class, new TestStepSerializer());
+        module.addSerializer(TestEvent.class, new TestEventSerializer());
+        JsonFactory factory = new JsonFactory().setCharacterEscapes(new ScriptSafeEscapes());
+        return new ObjectMapper(factory).registerModule(module);
+    }
+
+    /**
+     * @return A copy of the configured mapper; changing it does not affect report output. Copying is not free,
+     * so callers should keep the result rather than call this repeatedly.
+     */
+    public static ObjectMapper mapper() {
+        return MAPPER.copy();
+    }
+
+    /**
+     * @return The cached reader for parsing report JSON back into trees.
+     */
+    public static ObjectReader reader() {
+        return READER;
+    }
+
+    /**
+     * Creates a UTF-8 generator with the report configuration: model serializers and script-safe escaping.
+     * The generator leaves the stream open when it is closed.
+     * @param out The target stream.
+     * @return The generator.
+     * @throws IOException If the generator cannot be created.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * @return The cached writer used for report output. It never closes the target it writes to.
+     */
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    /**
+     * Writes the report data as compact UTF-8 JSON to the given stream, leaving it open.
+     * A byte stream lets off-heap log text be copied through without decoding.
+     * If the data carries a {@link SymbolTable}, interned values are written as references into its string table.
+     * @param out The target stream.
+     * @param reportData The data to write.
+     * @throws IOException If writing fails.
+     */
+    public static void write(OutputStream out, ReportData reportData) throws IOException {
+        ObjectWriter writer = reportData.getSymbols() == null ? WRITER : WRITER.withAttribute(SymbolTable.class, reportData.getSymbols());
+        writer.writeValue(out, reportData);
+    }
+
+    /**
+     * Standard JSON escaping plus {@code <}, {@code >} and {@code &}, which are harmless in JSON but can end
+     * or open markup when the JSON is inlined into HTML. The escapes apply to raw UTF-8 text as well.
+     */
+    private static final class ScriptSafeEscapes extends CharacterEscapes {
+        private final int[] asciiEscapes;
+
+        ScriptSafeEscapes() {
+            asciiEscapes = standardAsciiEscapesForJSON();
+            asciiEscapes['<'] = ESCAPE_STANDARD;
+            asciiEscapes['>'] = ESCAPE_STANDARD;
+            asciiEscapes['&'] = ESCAPE_STANDARD;
+        }
+
+        @Override
+        public int[] getEscapeCodesForAscii() {
+            return asciiEscapes;
+        }
+
+        @Override
+        public SerializableString getEscapeSequence(int ch) {
+            return null; // Only ESCAPE_STANDARD is used
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.analysis.CriticalPathEntry;
+import com.codementorsdev.qmeter.analysis.IdleGap;
+import com.codementorsdev.qmeter.analysis.ParallelismStats;
+import com.codementorsdev.qmeter.model.RetryHotspot;
+import com.codementorsdev.qmeter.model.RetryStats;
+import com.codementorsdev.qmeter.model.Summary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class SummarySerializer extends ModelSerializer<Summary> {
+
+    SummarySerializer() {
+        super(Summary.class);
+    }
+
+    @Override
+    public void serialize(Summary value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("totalSuites", value.getTotalSuites());
+        gen.writeNumberField("totalTestCases", value.getTotalTestCases());
+        gen.writeNumberField("pass", value.getPass());
+        gen.writeNumberField("fail", value.getFail());
+        gen.writeNumberField("skip", value.getSkip());
+        gen.writeNumberField("error", value.getError());
+        gen.writeNumberField("unknown", value.getUnknown());
+        gen.writeNumberField("totalExecutionTime", value.getTotalExecutionTime());
+        gen.writeNumberField("startTime", value.getStartTime());
+        gen.writeNumberField("endTime", value.getEndTime());
+        gen.writeStringField("environment", value.getEnvironment());
+        gen.writeStringField("platform", value.getPlatform());
+        RetryStats retries = value.getRetries();
+        if (retries != null) {
+            gen.writeObjectFieldStart("retries");
+            gen.writeNumberField("retriedTestCases", retries.getRetriedTestCases());
+            gen.writeNumberField("flakyTestCases", retries.getFlakyTestCases());
+            gen.writeNumberField("totalRetries", retries.getTotalRetries());
+            gen.writeNumberField("retryTime", retries.getRetryTime());
+            gen.writeNumberField("wastedCpuTime", retries.getWastedCpuTime());
+            gen.writeArrayFieldStart("topTestCases");
+            for (RetryHotspot hotspot : retries.getTopTestCases()) {
+                gen.writeStartObject();
+                gen.writeStringField("testCaseId", hotspot.getTestCaseId());
+                gen.writeStringField("name", hotspot.getName());
+                gen.writeStringField("suiteName", hotspot.getSuiteName());
+                gen.writeNumberField("attempts", hotspot.getAttempts());
+                writeStatus(gen, hotspot.getStatus());
+                gen.writeNumberField("retryTime", hotspot.getRetryTime());
+                gen.writeNumberField("wastedCpuTime", hotspot.getWastedCpuTime());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        ParallelismStats parallelism = value.getParallelism();
+        if (parallelism != null) {
+            writeParallelism(gen, parallelism);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeParallelism(JsonGenerator gen, ParallelismStats stats) throws IOException {
+        gen.writeObjectFieldStart("parallelism");
+        gen.writeNumberField("testCases", stats.getTestCases());
+        gen.writeNumberField("startTime", stats.getStartTime());
+        gen.writeNumberField("endTime", stats.getEndTime());
+        gen.writeNumberField("wallTime", stats.getWallTime());
+        gen.writeNumberField("totalTestTime", stats.getTotalTestTime());
+        gen.writeNumberField("busyTime", stats.getBusyTime());
+        gen.writeNumberField("averageParallelism", round(stats.getAverageParallelism()));
+        gen.writeNumberField("peakParallelism", stats.getPeakParallelism());
+        gen.writeNumberField("peakTime", stats.getPeakTime());
+        gen.writeNumberField("idleGapCount", stats.getIdleGapCount());
+        gen.writeNumberField("idleTime", stats.getIdleTime());
+        gen.writeArrayFieldStart("longestIdleGaps");
+        for (IdleGap gap : stats.getLongestIdleGaps()) {
+            gen.writeStartObject();
+            gen.writeNumberField("startTime", gap.getStartTime());
+            gen.writeNumberField("endTime", gap.getEndTime());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeObjectFieldStart("criticalPath");
+        gen.writeNumberField("duration", stats.getCriticalPathDuration());
+        gen.writeNumberField("waitTime", stats.getCriticalPathWaitTime());
+        gen.writeNumberField("length", stats.getCriticalPathLength());
+        gen.writeArrayFieldStart("testCases");
+        for (CriticalPathEntry entry : stats.getCriticalPath()) {
+            gen.writeStartObject();
+            gen.writeStringField("testCaseId", entry.getTestCaseId());
+            gen.writeStringField("name", entry.getName());
+            gen.writeStringField("suiteName", entry.getSuiteName());
+            gen.writeNumberField("startTime", entry.getStartTime());
+            gen.writeNumberField("endTime", entry.getEndTime());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+
+        gen.writeObjectFieldStart("timeline");
+        gen.writeNumberField("bucketWidth", stats.getTimelineBucketWidth());
+        gen.writeArrayFieldStart("average");
+        for (double average : stats.getTimelineAverage()) {
+            gen.writeNumber(round(average));
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("peak");
+        for (int peak : stats.getTimelinePeak()) {
+            gen.writeNumber(peak);
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private static double round(double value) {
+        // Two decimals are plenty for display and keep the timeline compact
+        return Math.round(value * 100) / 100.0;
+    }
+}
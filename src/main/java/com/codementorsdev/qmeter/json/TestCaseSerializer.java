@@ -0,0 +1,123 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.TestAttempt;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestEvent;
+import com.codementorsdev.qmeter.model.StepSummary;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.List;
+
+class TestCaseSerializer extends ModelSerializer<TestCase> {
+    private final TestStepSerializer stepSerializer = new TestStepSerializer();
+    private final TestEventSerializer eventSerializer = new TestEventSerializer();
+
+    TestCaseSerializer() {
+        super(TestCase.class);
+    }
+
+    @Override
+    public void serialize(TestCase value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", value.getId());
+        gen.writeStringField("name", value.getName());
+        gen.writeStringField("description", value.getDescription());
+        writeStatus(gen, value.getStatus());
+        gen.writeNumberField("duration", value.getDuration());
+        gen.writeNumberField("durationMicros", value.getDurationMicros());
+        gen.writeNumberField("startTime", value.getStartTime());
+        gen.writeNumberField("endTime", value.getEndTime());
+        writeSymbol(gen, provider, "environment", value.getEnvironment());
+        writeSymbol(gen, provider, "platform", value.getPlatform());
+
+        // Null or empty lists are left out entirely to keep the payload small
+        List<TestStep> steps = value.getSteps();
+        if (steps != null && !steps.isEmpty()) {
+            gen.writeArrayFieldStart("steps");
+            for (TestStep step : steps) {
+                stepSerializer.serialize(step, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+        List<StepSummary> stepSummaries = value.getStepSummaries();
+        if (stepSummaries != null && !stepSummaries.isEmpty()) {
+            gen.writeNumberField("recordedSteps", value.getRecordedStepCount());
+            gen.writeArrayFieldStart("stepSummaries");
+            for (StepSummary summary : stepSummaries) {
+                gen.writeStartObject();
+                gen.writeStringField("description", summary.getDescription());
+                gen.writeNumberField("count", summary.getCount());
+                // Aggregated in µs, written in ms like every other duration
+                gen.writeNumberField("min", summary.getMinDuration() / 1000.0);
+                gen.writeNumberField("max", summary.getMaxDuration() / 1000.0);
+                gen.writeNumberField("mean", Math.round(summary.getMeanDuration()) / 1000.0);
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        List<TestAttempt> attempts = value.getAttempts();
+        if (attempts != null && !attempts.isEmpty()) {
+            gen.writeArrayFieldStart("attempts");
+            for (int i = 0; i < attempts.size(); i++) {
+                TestAttempt attempt = attempts.get(i);
+                gen.writeStartObject();
+                gen.writeNumberField("number", attempt.getNumber());
+                writeStatus(gen, attempt.getStatus());
+                gen.writeNumberField("duration", attempt.getDuration());
+                gen.writeNumberField("startTime", attempt.getStartTime());
+                gen.writeNumberField("endTime", attempt.getEndTime());
+                gen.writeNumberField("cpuTime", attempt.getCpuTime());
+                // The final attempt's steps are the test case's own steps, written above
+                List<TestStep> attemptSteps = attempt.getSteps();
+                if (i < attempts.size() - 1 && attemptSteps != null && !attemptSteps.isEmpty()) {
+                    gen.writeArrayFieldStart("steps");
+                    for (TestStep step : attemptSteps) {
+                        stepSerializer.serialize(step, gen, provider);
+                    }
+                    gen.writeEndArray();
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        if (value.getLogRefCount() > 0) {
+            // Off-heap messages, plus any added before the arena was set
+            gen.writeArrayFieldStart("logs");
+            writeLogStrings(gen, value);
+            int[] refs = value.getLogRefs();
+            for (int i = 0; i < value.getLogRefCount(); i++) {
+                if (refs[i] == TestCase.NULL_LOG_REF) {
+                    gen.writeNull();
+                } else {
+                    writeArenaText(gen, value.getTextArena(), refs[i]);
+                }
+            }
+            gen.writeEndArray();
+        } else if (value.getLogs() != null && !value.getLogs().isEmpty()) {
+            gen.writeArrayFieldStart("logs");
+            writeLogStrings(gen, value);
+            gen.writeEndArray();
+        }
+        List<TestEvent> events = value.getEvents();
+        if (events != null && !events.isEmpty()) {
+            gen.writeArrayFieldStart("events");
+            for (TestEvent event : events) {
+                eventSerializer.serialize(event, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeLogStrings(JsonGenerator gen, TestCase value) throws IOException {
+        // Heap messages only; getLogs() would also decode the off-heap ones
+        List<String> logs = value.getHeapLogs();
+        if (logs == null) return;
+        for (String log : logs) {
+            gen.writeString(log);
+        }
+    }
+}
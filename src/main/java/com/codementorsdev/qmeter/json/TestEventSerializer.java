@@ -0,0 +1,29 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.TestEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class TestEventSerializer extends ModelSerializer<TestEvent> {
+
+    TestEventSerializer() {
+        super(TestEvent.class);
+    }
+
+    @Override
+    public void serialize(TestEvent value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", value.getId());
+        gen.writeNumberField("timestamp", value.getTimestamp());
+        writeSymbol(gen, provider, "type", value.getType());
+        if (value.getMessageRef() >= 0) {
+            gen.writeFieldName("message");
+            writeArenaText(gen, value.getTextArena(), value.getMessageRef());
+        } else {
+            gen.writeStringField("message", value.getMessage());
+        }
+        gen.writeEndObject();
+    }
+}
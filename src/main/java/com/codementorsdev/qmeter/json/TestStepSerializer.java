@@ -0,0 +1,25 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.TestStep;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class TestStepSerializer extends ModelSerializer<TestStep> {
+
+    TestStepSerializer() {
+        super(TestStep.class);
+    }
+
+    @Override
+    public void serialize(TestStep value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", value.getId());
+        writeSymbol(gen, provider, "description", value.getDescription());
+        writeStatus(gen, value.getStatus());
+        gen.writeNumberField("duration", value.getDuration());
+        gen.writeNumberField("durationMicros", value.getDurationMicros());
+        gen.writeEndObject();
+    }
+}
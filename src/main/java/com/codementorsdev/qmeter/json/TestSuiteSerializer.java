@@ -0,0 +1,36 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+class TestSuiteSerializer extends ModelSerializer<TestSuite> {
+    private final TestCaseSerializer testCaseSerializer = new TestCaseSerializer();
+
+    TestSuiteSerializer() {
+        super(TestSuite.class);
+    }
+
+    @Override
+    public void serialize(TestSuite value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", value.getId());
+        gen.writeStringField("name", value.getName());
+        writeStatus(gen, value.getStatus());
+        gen.writeNumberField("duration", value.getDuration());
+        gen.writeNumberField("startTime", value.getStartTime());
+        gen.writeNumberField("endTime", value.getEndTime());
+        // The viewer always iterates testCases, so the array is written even when empty
+        gen.writeArrayFieldStart("testCases");
+        if (value.getTestCases() != null) {
+            for (TestCase testCase : value.getTestCases()) {
+                testCaseSerializer.serialize(testCase, gen, provider);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,36 @@
+package com.codementorsdev.qmeter.model;
+
+import java.time.Instant;
+
+/**
+ * Monotonic, nanosecond-resolution clock for report timing. The wall clock is read once, when the class is
+ * loaded, and all later times are that base plus elapsed {@link System#nanoTime()}. Durations are therefore
+ * never negative and never jump when the system clock is adjusted (e.g. by NTP), while timestamps remain
+ * comparable to epoch milliseconds.
+ */
+public final class ReportClock {
+    private static final long BASE_EPOCH_NANOS;
+    private static final long BASE_NANO_TIME;
+
+    static {
+        Instant now = Instant.now();
+        BASE_NANO_TIME = System.nanoTime();
+        BASE_EPOCH_NANOS = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private ReportClock() {}
+
+    /**
+     * @return Nanoseconds since the Unix epoch, anchored to the wall clock once and advanced monotonically.
+     */
+    public static long epochNanos() {
+        return BASE_EPOCH_NANOS + (System.nanoTime() - BASE_NANO_TIME);
+    }
+
+    /**
+     * @return Milliseconds since the Unix epoch, consistent with {@link #epochNanos()}.
+     */
+    public static long currentTimeMillis() {
+        return epochNanos() / 1_000_000;
+    }
+}
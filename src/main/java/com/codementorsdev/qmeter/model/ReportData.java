@@ -9,6 +9,7 @@ public class ReportData {
     private String id;
     private List<TestSuite> suites;
     private Summary summary;
+    private SymbolTable symbols; // Optional; when set, repeated values are written as references into a string table
 
     public ReportData() {
         this.id = UUID.randomUUID().toString();
@@ -39,4 +40,12 @@ public class ReportData {
     public void setSummary(Summary summary) {
         this.summary = summary;
     }
+
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    public void setSymbols(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
 }
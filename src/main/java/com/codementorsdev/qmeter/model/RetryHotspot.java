@@ -0,0 +1,32 @@
+package com.codementorsdev.qmeter.model;
+
+/**
+ * A retried test case and the time it spent in attempts that were retried.
+ */
+public class RetryHotspot {
+    private final String testCaseId;
+    private final String name;
+    private final String suiteName;
+    private final int attempts;
+    private final Status status; // Final status
+    private final long retryTime; // in ms
+    private final long wastedCpuTime; // in ms
+
+    public RetryHotspot(String testCaseId, String name, String suiteName, int attempts, Status status, long retryTime, long wastedCpuTime) {
+        this.testCaseId = testCaseId;
+        this.name = name;
+        this.suiteName = suiteName;
+        this.attempts = attempts;
+        this.status = status;
+        this.retryTime = retryTime;
+        this.wastedCpuTime = wastedCpuTime;
+    }
+
+    public String getTestCaseId() { return testCaseId; }
+    public String getName() { return name; }
+    public String getSuiteName() { return suiteName; }
+    public int getAttempts() { return attempts; }
+    public Status getStatus() { return status; }
+    public long getRetryTime() { return retryTime; }
+    public long getWastedCpuTime() { return wastedCpuTime; }
+}
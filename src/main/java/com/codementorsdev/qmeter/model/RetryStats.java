@@ -0,0 +1,68 @@
+package com.codementorsdev.qmeter.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Aggregates the cost of retries over finished test cases: how many were retried or flaky, the time spent
+ * in attempts that were thrown away, and the test cases that spend the most time in retries.
+ * Not thread-safe; each aggregation pass uses its own instance.
+ */
+public class RetryStats {
+    public static final int TOP_LIMIT = 10;
+
+    private static final Comparator<RetryHotspot> BY_RETRY_TIME = Comparator.comparingLong(RetryHotspot::getRetryTime);
+
+    private int retriedTestCases;
+    private int flakyTestCases; // Retried, then passed
+    private int totalRetries; // Attempts beyond the first
+    private long retryTime; // Wall-clock ms spent in attempts that were retried
+    private long wastedCpuTime; // CPU ms spent in attempts that were retried, where measured
+    private final PriorityQueue<RetryHotspot> top = new PriorityQueue<>(BY_RETRY_TIME); // Min-heap of the costliest cases
+
+    public void add(TestSuite suite, TestCase testCase) {
+        List<TestAttempt> attempts = testCase.getAttempts();
+        if (attempts == null || attempts.size() < 2) {
+            return;
+        }
+        long caseRetryTime = 0;
+        long caseCpuTime = 0;
+        for (int i = 0; i < attempts.size() - 1; i++) {
+            TestAttempt attempt = attempts.get(i);
+            caseRetryTime += attempt.getDuration();
+            if (attempt.getCpuTime() >= 0) caseCpuTime += attempt.getCpuTime(); // -1 when not measured
+        }
+
+        retriedTestCases++;
+        if (testCase.getStatus() == Status.PASS) flakyTestCases++;
+        totalRetries += attempts.size() - 1;
+        retryTime += caseRetryTime;
+        wastedCpuTime += caseCpuTime;
+
+        RetryHotspot hotspot = new RetryHotspot(testCase.getId(), testCase.getName(), suite == null ? null : suite.getName(),
+                attempts.size(), testCase.getStatus(), caseRetryTime, caseCpuTime);
+        if (top.size() < TOP_LIMIT) {
+            top.add(hotspot);
+        } else if (caseRetryTime > top.peek().getRetryTime()) {
+            top.poll();
+            top.add(hotspot);
+        }
+    }
+
+    public int getRetriedTestCases() { return retriedTestCases; }
+    public int getFlakyTestCases() { return flakyTestCases; }
+    public int getTotalRetries() { return totalRetries; }
+    public long getRetryTime() { return retryTime; }
+    public long getWastedCpuTime() { return wastedCpuTime; }
+
+    /**
+     * @return Up to {@link #TOP_LIMIT} test cases with the most time spent in retries, costliest first.
+     */
+    public List<RetryHotspot> getTopTestCases() {
+        List<RetryHotspot> sorted = new ArrayList<>(top);
+        sorted.sort(BY_RETRY_TIME.reversed());
+        return sorted;
+    }
+}
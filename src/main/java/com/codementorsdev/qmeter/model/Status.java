@@ -0,0 +1,59 @@
+package com.codementorsdev.qmeter.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum Status {
+    PASS("Pass"),
+    FAIL("Fail"),
+    SKIP("Skip"),
+    ERROR("Error"),
+    UNKNOWN("Unknown"),
+    NO_TESTS("No Tests");
+
+    private static final Status[] VALUES = values();
+
+    private final String label;
+
+    Status(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return The label used in the report JSON and shown by the viewer (e.g. "Pass").
+     */
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isFailure() {
+        return this == FAIL || this == ERROR;
+    }
+
+    /**
+     * Parses a free-form status string. Matching is case-insensitive and accepts the common
+     * past-tense spellings ("Passed", "FAILED", ...). Anything unrecognised maps to UNKNOWN
+     * so it is still counted instead of silently dropped.
+     * @param value The status string, may be null.
+     * @return The matching status, never null.
+     */
+    @JsonCreator
+    public static Status from(String value) {
+        if (value == null) return UNKNOWN;
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "pass": case "passed": return PASS;
+            case "fail": case "failed": case "failure": return FAIL;
+            case "skip": case "skipped": return SKIP;
+            case "error": case "errored": case "broken": return ERROR;
+            case "no tests": return NO_TESTS;
+            default: return UNKNOWN;
+        }
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,34 @@
+package com.codementorsdev.qmeter.model;
+
+/**
+ * Per-status counters indexed by {@link Status#ordinal()}, so aggregation is a single array increment.
+ * Not thread-safe; each aggregation pass uses its own instance.
+ */
+public class StatusCounts {
+    private final int[] counts = new int[Status.count()];
+    private int total;
+
+    public void add(Status status) {
+        counts[(status == null ? Status.UNKNOWN : status).ordinal()]++;
+        total++;
+    }
+
+    public void addAll(StatusCounts other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+    }
+
+    public int get(Status status) {
+        return counts[status.ordinal()];
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean hasFailures() {
+        return counts[Status.FAIL.ordinal()] + counts[Status.ERROR.ordinal()] > 0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.codementorsdev.qmeter.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded step storage for one test case under a sampled {@link StepSamplingPolicy}.
+ * <p>
+ * Steps that did not pass are always kept. Passing steps first go into a ring buffer of the most recent
+ * {@code retainLast} steps; whatever falls out of it is added to the per-description summaries and offered
+ * to a reservoir sample (Algorithm R). The decision about the buffered steps is deferred to {@link #finish}:
+ * a failing case keeps them in full, a passing case folds them in like the rest. Cases that never overflow
+ * the buffer keep every step and get no summaries.
+ */
+class StepRecorder {
+    private final Entry[] recent;
+    private int recentHead;
+    private int recentCount;
+    private final Entry[] reservoir;
+    private int reservoirCount;
+    private long reservoirSeen;
+    private final List<Entry> kept = new ArrayList<>(); // Steps that did not pass
+    private final Map<String, StepSummary> summaries = new LinkedHashMap<>();
+    private long sequence;
+    private boolean overflowed;
+    private final Random random; // Null to use ThreadLocalRandom
+
+    StepRecorder(StepSamplingPolicy policy) {
+        this(policy, null);
+    }
+
+    /**
+     * @param random The source for reservoir sampling, or null for {@link ThreadLocalRandom}. A seeded
+     *               instance makes the sample reproducible.
+     */
+    StepRecorder(StepSamplingPolicy policy, Random random) {
+        this.recent = new Entry[policy.getRetainLast()];
+        this.reservoir = new Entry[policy.getReservoirSize()];
+        this.random = random;
+    }
+
+    synchronized void record(TestStep step) {
+        Entry entry = new Entry(sequence++, step);
+        if (step.getStatus() != Status.PASS) {
+            kept.add(entry);
+            return;
+        }
+        if (recentCount < recent.length) {
+            recent[(recentHead + recentCount++) % recent.length] = entry;
+            return;
+        }
+        overflowed = true;
+        evict(recent[recentHead]);
+        recent[recentHead] = entry;
+        recentHead = (recentHead + 1) % recent.length;
+    }
+
+    private void evict(Entry entry) {
+        summaries.computeIfAbsent(entry.step.getDescription(), StepSummary::new).add(entry.step.getDurationMicros());
+        if (reservoir.length == 0) return;
+        reservoirSeen++;
+        if (reservoirCount < reservoir.length) {
+            reservoir[reservoirCount++] = entry;
+        } else {
+            long slot = (random == null ? ThreadLocalRandom.current() : random).nextLong(reservoirSeen);
+            if (slot < reservoir.length) reservoir[(int) slot] = entry;
+        }
+    }
+
+    /**
+     * Settles the buffered steps now that the final status is known.
+     * @param caseStatus The final status of the test case.
+     * @return The steps to keep in detail, in recording order.
+     */
+    synchronized List<TestStep> finish(Status caseStatus) {
+        List<Entry> result = new ArrayList<>(kept);
+        boolean keepRecent = !overflowed || (caseStatus != null && caseStatus.isFailure());
+        for (int i = 0; i < recentCount; i++) {
+            Entry entry = recent[(recentHead + i) % recent.length];
+            if (keepRecent) {
+                result.add(entry);
+            } else {
+                evict(entry);
+            }
+        }
+        return inOrder(result);
+    }
+
+    /**
+     * @return The steps currently held (not passed, recent and sampled), in recording order. Unlike
+     * {@link #finish} this leaves the recorder unchanged, so it can be called while the case is running.
+     */
+    synchronized List<TestStep> snapshot() {
+        List<Entry> result = new ArrayList<>(kept);
+        for (int i = 0; i < recentCount; i++) {
+            result.add(recent[(recentHead + i) % recent.length]);
+        }
+        return inOrder(result);
+    }
+
+    /**
+     * @return Whether a failed or errored step has been recorded. Such steps are always kept.
+     */
+    synchronized boolean hasFailedStep() {
+        for (Entry entry : kept) {
+            if (entry.step.getStatus() != null && entry.step.getStatus().isFailure()) return true;
+        }
+        return false;
+    }
+
+    private List<TestStep> inOrder(List<Entry> result) {
+        for (int i = 0; i < reservoirCount; i++) {
+            result.add(reservoir[i]);
+        }
+        result.sort(Comparator.comparingLong(entry -> entry.sequence));
+
+        List<TestStep> steps = new ArrayList<>(result.size());
+        for (Entry entry : result) {
+            steps.add(entry.step);
+        }
+        return steps;
+    }
+
+    /**
+     * @return Aggregates of the passing steps outside the retained window, including those in the reservoir.
+     */
+    synchronized Collection<StepSummary> getSummaries() {
+        return summaries.values();
+    }
+
+    synchronized long getRecordedCount() {
+        return sequence;
+    }
+
+    private static class Entry {
+        final long sequence;
+        final TestStep step;
+
+        Entry(long sequence, TestStep step) {
+            this.sequence = sequence;
+            this.step = step;
+        }
+    }
+}
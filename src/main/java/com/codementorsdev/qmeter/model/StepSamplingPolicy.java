@@ -0,0 +1,52 @@
+package com.codementorsdev.qmeter.model;
+
+/**
+ * Controls how many steps are kept per test case. With the default {@link #keepAll()} every step is recorded.
+ * A {@link #sampled} policy bounds memory for cases that record very many steps: steps that did not pass
+ * are always kept, the last steps are held back until the case ends, and older passing steps are
+ * reservoir-sampled and aggregated into per-description {@link StepSummary} entries.
+ */
+public class StepSamplingPolicy {
+    private static final StepSamplingPolicy KEEP_ALL = new StepSamplingPolicy(0, 0);
+
+    private final int retainLast;
+    private final int reservoirSize;
+
+    private StepSamplingPolicy(int retainLast, int reservoirSize) {
+        this.retainLast = retainLast;
+        this.reservoirSize = reservoirSize;
+    }
+
+    /**
+     * @return A policy that records every step (the default).
+     */
+    public static StepSamplingPolicy keepAll() {
+        return KEEP_ALL;
+    }
+
+    /**
+     * @param retainLast Number of most recent steps held in full detail until the case ends.
+     *                   They are kept if the case fails, and folded into the summaries if it passes.
+     * @param reservoirSize Number of older passing steps kept as a uniform random sample. May be 0
+     *                      to keep only the aggregated summaries.
+     * @return A sampling policy.
+     */
+    public static StepSamplingPolicy sampled(int retainLast, int reservoirSize) {
+        if (retainLast < 1 || reservoirSize < 0) {
+            throw new IllegalArgumentException("retainLast must be positive and reservoirSize non-negative: " + retainLast + ", " + reservoirSize);
+        }
+        return new StepSamplingPolicy(retainLast, reservoirSize);
+    }
+
+    public boolean isKeepAll() {
+        return this == KEEP_ALL;
+    }
+
+    public int getRetainLast() {
+        return retainLast;
+    }
+
+    public int getReservoirSize() {
+        return reservoirSize;
+    }
+}
@@ -0,0 +1,31 @@
+package com.codementorsdev.qmeter.model;
+
+/**
+ * Aggregate of the passing steps with the same description that were not kept in full detail.
+ */
+public class StepSummary {
+    private final String description;
+    private long count;
+    private long minDuration = Long.MAX_VALUE; // Durations in µs, so fast steps do not aggregate to zero
+    private long maxDuration = Long.MIN_VALUE;
+    private long totalDuration;
+
+    public StepSummary(String description) {
+        this.description = description;
+    }
+
+    void add(long duration) {
+        count++;
+        totalDuration += duration;
+        if (duration < minDuration) minDuration = duration;
+        if (duration > maxDuration) maxDuration = duration;
+    }
+
+    // Getters
+    public String getDescription() { return description; }
+    public long getCount() { return count; }
+    public long getMinDuration() { return minDuration; }
+    public long getMaxDuration() { return maxDuration; }
+    public long getTotalDuration() { return totalDuration; }
+    public double getMeanDuration() { return count == 0 ? 0 : (double) totalDuration / count; }
+}
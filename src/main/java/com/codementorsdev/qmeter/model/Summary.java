@@ -1,5 +1,6 @@
 package com.codementorsdev.qmeter.model;
 
+import com.codementorsdev.qmeter.analysis.ParallelismStats;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class Summary {
@@ -15,6 +16,8 @@ public class Summary {
     private int skip;
     @JsonProperty("error")
     private int error;
+    @JsonProperty("unknown")
+    private int unknown; // Statuses that did not match any known value
     @JsonProperty("totalExecutionTime")
     private long totalExecutionTime;
     @JsonProperty("startTime")
@@ -25,6 +28,10 @@ public class Summary {
     private String environment;
     @JsonProperty("platform")
     private String platform;
+    @JsonProperty("retries")
+    private RetryStats retries; // Cost of retried test cases
+    @JsonProperty("parallelism")
+    private ParallelismStats parallelism; // Concurrency and critical path of the run
 
     public Summary() {}
 
@@ -42,6 +49,12 @@ public class Summary {
         this.platform = platform;
     }
 
+    public Summary(int totalSuites, StatusCounts counts, long totalExecutionTime, long startTime, long endTime, String environment, String platform) {
+        this(totalSuites, counts.getTotal(), counts.get(Status.PASS), counts.get(Status.FAIL), counts.get(Status.SKIP), counts.get(Status.ERROR),
+                totalExecutionTime, startTime, endTime, environment, platform);
+        this.unknown = counts.get(Status.UNKNOWN);
+    }
+
     // Getters and Setters
     public int getTotalSuites() { return totalSuites; }
     public void setTotalSuites(int totalSuites) { this.totalSuites = totalSuites; }
@@ -55,6 +68,8 @@ public class Summary {
     public void setSkip(int skip) { this.skip = skip; }
     public int getError() { return error; }
     public void setError(int error) { this.error = error; }
+    public int getUnknown() { return unknown; }
+    public void setUnknown(int unknown) { this.unknown = unknown; }
     public long getTotalExecutionTime() { return totalExecutionTime; }
     public void setTotalExecutionTime(long totalExecutionTime) { this.totalExecutionTime = totalExecutionTime; }
     public long getStartTime() { return startTime; }
@@ -65,4 +80,8 @@ public class Summary {
     public void setEnvironment(String environment) { this.environment = environment; }
     public String getPlatform() { return platform; }
     public void setPlatform(String platform) { this.platform = platform; }
+    public RetryStats getRetries() { return retries; }
+    public void setRetries(RetryStats retries) { this.retries = retries; }
+    public ParallelismStats getParallelism() { return parallelism; }
+    public void setParallelism(ParallelismStats parallelism) { this.parallelism = parallelism; }
 }
@@ -0,0 +1,60 @@
+package com.codementorsdev.qmeter.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-report dictionary for values that come from a small vocabulary (step descriptions, environments,
+ * platforms, event types). Interning makes all equal values share one String instance, and lets the
+ * report JSON carry each value once in a string table with integer references elsewhere. Descriptions of
+ * sampled steps are interned only once the step is known to be kept, so the table stays bounded by the report.
+ * Safe for concurrent use.
+ */
+public class SymbolTable {
+    private final ConcurrentMap<String, Symbol> symbols = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * @param value The value to intern, may be null.
+     * @return The canonical instance of the value, or null.
+     */
+    public String intern(String value) {
+        if (value == null) return null;
+        return symbols.computeIfAbsent(value, v -> new Symbol(nextId.getAndIncrement(), v)).value;
+    }
+
+    /**
+     * @param value A value.
+     * @return The position of the value in {@link #toArray()}, or -1 if it was never interned.
+     */
+    public int idOf(String value) {
+        Symbol symbol = value == null ? null : symbols.get(value);
+        return symbol == null ? -1 : symbol.id;
+    }
+
+    /**
+     * @return All interned values, indexed by id. Meant to be called once recording has finished.
+     */
+    public String[] toArray() {
+        String[] values = new String[nextId.get()];
+        for (Symbol symbol : symbols.values()) {
+            if (symbol.id < values.length) values[symbol.id] = symbol.value;
+        }
+        return values;
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+
+    private static class Symbol {
+        final int id;
+        final String value;
+
+        Symbol(int id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.codementorsdev.qmeter.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * One run of a test case that was retried. Attempts are numbered from 1; the last attempt is the one
+ * whose status the test case reports.
+ */
+public class TestAttempt {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private int number;
+    private Status status;
+    private long duration; // in ms
+    private long startTime;
+    private long endTime;
+    private long cpuTime = -1; // in ms, -1 if thread CPU time is not available
+    private List<TestStep> steps;
+
+    public TestAttempt() {}
+
+    public TestAttempt(int number, Status status, long startTime, long endTime, long cpuTime, List<TestStep> steps) {
+        this.number = number;
+        this.status = status;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.duration = endTime - startTime;
+        this.cpuTime = cpuTime;
+        this.steps = steps;
+    }
+
+    /**
+     * @return The CPU time of the calling thread in nanoseconds, or -1 if the JVM does not measure it.
+     */
+    static long currentThreadCpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    // Getters and Setters
+    public int getNumber() { return number; }
+    public void setNumber(int number) { this.number = number; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public long getDuration() { return duration; }
+    public void setDuration(long duration) { this.duration = duration; }
+    public long getStartTime() { return startTime; }
+    public void setStartTime(long startTime) { this.startTime = startTime; }
+    public long getEndTime() { return endTime; }
+    public void setEndTime(long endTime) { this.endTime = endTime; }
+    public long getCpuTime() { return cpuTime; }
+    public void setCpuTime(long cpuTime) { this.cpuTime = cpuTime; }
+    public List<TestStep> getSteps() { return steps; }
+    public void setSteps(List<TestStep> steps) { this.steps = steps; }
+}
@@ -2,15 +2,20 @@ package com.codementorsdev.qmeter.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 public class TestCase {
+    public static final int NULL_LOG_REF = -1; // Stands for a null message in the log references
     private String id;
     private String name;
     private String description;
-    private String status; // Pass, Fail, Skip, Error
+    private Status status;
     private long duration; // in ms
+    private long durationNanos; // Full precision duration, measured with ReportClock
+    private long startNanos; // Epoch nanoseconds, for precise durations
     @JsonProperty("startTime")
     private long startTime;
     @JsonProperty("endTime")
@@ -19,7 +24,19 @@ public class TestCase {
     private String platform;
     private List<TestStep> steps;
     private List<String> logs; // Simple list of log messages
+    private TextArena textArena; // When set, log messages are stored off-heap and referenced by logRefs
+    private SymbolTable symbols; // When set, descriptions of the steps kept in detail are interned
+    private int[] logRefs;
+    private int logCount;
     private List<TestEvent> events;
+    private List<StepSummary> stepSummaries; // Aggregated passing steps, only with a sampled StepSamplingPolicy
+    private long recordedStepCount; // Steps recorded, including those not kept in detail
+    private StepRecorder stepRecorder; // Set while a sampled case is running
+    private StepSamplingPolicy stepSampling; // Reapplied to each new attempt
+    private List<TestAttempt> attempts; // All attempts, only set once the case has been retried
+    private long attemptStartTime;
+    private long attemptCpuStart; // Thread CPU time in ns at the start of the current attempt, -1 if unavailable
+    private long attemptCpuThread; // Id of the thread attemptCpuStart was measured on
 
     public TestCase() {
         this.id = UUID.randomUUID().toString();
@@ -31,13 +48,176 @@ public class TestCase {
         this.description = description;
         this.environment = environment;
         this.platform = platform;
-        this.startTime = System.currentTimeMillis();
+        this.startNanos = ReportClock.epochNanos();
+        this.startTime = startNanos / 1_000_000;
+        this.attemptStartTime = this.startTime;
+        startCpuMeasurement();
     }
 
-    public void end(String status) {
-        this.endTime = System.currentTimeMillis();
-        this.duration = this.endTime - this.startTime;
+    /**
+     * Ends the test case. The duration covers all attempts; the status is that of the final attempt.
+     * @param status The final status.
+     */
+    public void end(Status status) {
+        long endNanos = ReportClock.epochNanos();
+        this.endTime = endNanos / 1_000_000;
+        this.durationNanos = endNanos - startNanos;
+        this.duration = durationNanos / 1_000_000;
         this.status = status;
+        if (stepRecorder != null) {
+            this.steps = internDescriptions(stepRecorder.finish(status));
+            this.stepSummaries = new ArrayList<>(stepRecorder.getSummaries());
+            this.recordedStepCount = stepRecorder.getRecordedCount();
+            this.stepRecorder = null;
+        }
+        if (attempts != null) {
+            attempts.add(new TestAttempt(attempts.size() + 1, status, attemptStartTime, endTime, attemptCpuTime(), steps));
+        }
+    }
+
+    /**
+     * Ends the current attempt with the given status and starts a new one. Steps recorded from now on
+     * belong to the new attempt; logs and events stay with the test case.
+     * CPU time is measured on the calling thread, so retries should be reported from the thread running the test.
+     * @param status The status of the attempt being retried.
+     */
+    public void retry(Status status) {
+        long now = ReportClock.currentTimeMillis();
+        List<TestStep> attemptSteps = steps;
+        if (stepRecorder != null) {
+            // Per-step summaries are only kept for the final attempt
+            attemptSteps = internDescriptions(stepRecorder.finish(status));
+            stepRecorder = new StepRecorder(stepSampling);
+        }
+        if (attempts == null) attempts = new ArrayList<>();
+        attempts.add(new TestAttempt(attempts.size() + 1, status, attemptStartTime, now, attemptCpuTime(), attemptSteps));
+
+        this.steps = new ArrayList<>();
+        this.recordedStepCount = 0;
+        this.attemptStartTime = now;
+        startCpuMeasurement();
+    }
+
+    /**
+     * Interns the descriptions of steps that are kept in detail. Under a sampled policy this waits until the
+     * steps are settled, so descriptions of steps that are only summarized never enter the symbol table.
+     */
+    private List<TestStep> internDescriptions(List<TestStep> keptSteps) {
+        if (symbols != null) {
+            for (TestStep step : keptSteps) {
+                step.setDescription(symbols.intern(step.getDescription()));
+            }
+        }
+        return keptSteps;
+    }
+
+    private void startCpuMeasurement() {
+        this.attemptCpuStart = TestAttempt.currentThreadCpuTime();
+        this.attemptCpuThread = Thread.currentThread().getId();
+    }
+
+    /**
+     * @return The CPU time of the current attempt in ms, or -1 if it is not available. Thread CPU time is
+     * per thread, so an attempt started on one thread and ended on another has no meaningful CPU time.
+     */
+    private long attemptCpuTime() {
+        if (Thread.currentThread().getId() != attemptCpuThread) return -1;
+        long cpuNow = TestAttempt.currentThreadCpuTime();
+        return attemptCpuStart < 0 || cpuNow < 0 ? -1 : (cpuNow - attemptCpuStart) / 1_000_000;
+    }
+
+    /**
+     * @return The attempts of a retried test case, oldest first, or null if it ran once.
+     * The last attempt shares its steps with the test case.
+     */
+    public List<TestAttempt> getAttempts() { return attempts; }
+    public void setAttempts(List<TestAttempt> attempts) { this.attempts = attempts; }
+
+    /**
+     * @return The number of attempts of a finished test case.
+     */
+    public int getAttemptCount() {
+        return attempts == null ? 1 : attempts.size();
+    }
+
+    /**
+     * Applies a step sampling policy. Must be called before the first step is recorded.
+     * @param policy The policy to apply.
+     */
+    public void setStepSampling(StepSamplingPolicy policy) {
+        this.stepSampling = policy == null || policy.isKeepAll() ? null : policy;
+        this.stepRecorder = stepSampling == null ? null : new StepRecorder(stepSampling);
+    }
+
+    /**
+     * Records a step, either directly or through the sampling policy.
+     * @param step The step to record.
+     */
+    public void recordStep(TestStep step) {
+        if (stepRecorder != null) {
+            stepRecorder.record(step);
+            return;
+        }
+        if (symbols != null) step.setDescription(symbols.intern(step.getDescription()));
+        if (steps == null) steps = new ArrayList<>();
+        steps.add(step);
+        recordedStepCount++;
+    }
+
+    /**
+     * Adds a log message, storing it in the text arena when one is set.
+     * @param message The log message.
+     */
+    public void addLog(String message) {
+        if (textArena == null) {
+            if (logs == null) logs = new ArrayList<>();
+            logs.add(message);
+            return;
+        }
+        if (logRefs == null) {
+            logRefs = new int[8];
+        } else if (logCount == logRefs.length) {
+            logRefs = Arrays.copyOf(logRefs, logCount * 2);
+        }
+        // A null message keeps its place in the sequence instead of going to the heap list
+        logRefs[logCount++] = message == null ? NULL_LOG_REF : textArena.append(message);
+    }
+
+    /**
+     * Stores log messages added from now on in the given arena instead of on the heap.
+     * @param textArena The arena, or null to keep messages as Strings.
+     */
+    public void setTextArena(TextArena textArena) {
+        this.textArena = textArena;
+    }
+
+    public TextArena getTextArena() { return textArena; }
+
+    /**
+     * Sets the table that step descriptions are interned into. Only steps kept in detail are interned.
+     * @param symbols The report symbol table, or null to keep descriptions as recorded.
+     */
+    public void setSymbols(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * @return The arena references of the stored log messages, {@link #NULL_LOG_REF} for null messages;
+     * only the first {@link #getLogRefCount()} are used.
+     */
+    public int[] getLogRefs() { return logRefs; }
+    public int getLogRefCount() { return logCount; }
+
+    /**
+     * @return The log messages held as Strings, without decoding the off-heap ones.
+     */
+    public List<String> getHeapLogs() { return logs; }
+
+    /**
+     * @return The number of log messages, counted without decoding the off-heap ones.
+     */
+    public int getLogCount() {
+        return logCount + (logs == null ? 0 : logs.size());
     }
 
     // Getters and Setters
@@ -46,22 +226,65 @@ public class TestCase {
     public void setName(String name) { this.name = name; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; } // Should ideally be set by end()
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; } // Should ideally be set by end()
     public long getDuration() { return duration; }
-    public void setDuration(long duration) { this.duration = duration; }
+    public void setDuration(long duration) {
+        this.duration = duration;
+        this.durationNanos = duration * 1_000_000;
+    }
+    public long getDurationMicros() { return durationNanos / 1_000; }
     public long getStartTime() { return startTime; }
-    public void setStartTime(long startTime) { this.startTime = startTime; }
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+        this.startNanos = startTime * 1_000_000;
+    }
     public long getEndTime() { return endTime; }
     public void setEndTime(long endTime) { this.endTime = endTime; }
     public String getEnvironment() { return environment; }
     public void setEnvironment(String environment) { this.environment = environment; }
     public String getPlatform() { return platform; }
     public void setPlatform(String platform) { this.platform = platform; }
-    public List<TestStep> getSteps() { return steps; }
+    /**
+     * @return The steps of the test case. Final only once the case has ended: while a case with a sampled
+     * {@link StepSamplingPolicy} is running this is a snapshot of the steps its recorder currently holds.
+     */
+    public List<TestStep> getSteps() {
+        StepRecorder recorder = stepRecorder;
+        return recorder != null ? recorder.snapshot() : steps;
+    }
+
+    /**
+     * @return Whether any step of the current attempt failed or errored, including steps a sampling policy did not keep in detail.
+     */
+    public boolean hasFailedStep() {
+        StepRecorder recorder = stepRecorder;
+        if (recorder != null) return recorder.hasFailedStep();
+        if (steps == null) return false;
+        for (TestStep step : steps) {
+            if (step.getStatus() != null && step.getStatus().isFailure()) return true;
+        }
+        return false;
+    }
     public void setSteps(List<TestStep> steps) { this.steps = steps; }
-    public List<String> getLogs() { return logs; }
+    /**
+     * @return The log messages in order, decoding those stored off-heap. Once the report has been flushed and
+     * the text arena released, the off-heap messages are gone and only those kept on the heap are returned.
+     */
+    public List<String> getLogs() {
+        if (logCount == 0) return logs;
+        if (textArena.isReleased()) return logs == null ? List.of() : logs;
+        // Decodes off-heap messages; the report serializers read the references directly instead
+        List<String> all = new ArrayList<>(logCount + (logs == null ? 0 : logs.size()));
+        if (logs != null) all.addAll(logs);
+        for (int i = 0; i < logCount; i++) {
+            all.add(logRefs[i] == NULL_LOG_REF ? null : textArena.get(logRefs[i]));
+        }
+        return all;
+    }
     public void setLogs(List<String> logs) { this.logs = logs; }
     public List<TestEvent> getEvents() { return events; }
     public void setEvents(List<TestEvent> events) { this.events = events; }
+    public List<StepSummary> getStepSummaries() { return stepSummaries; }
+    public long getRecordedStepCount() { return recordedStepCount; }
 }
\ No newline at end of file
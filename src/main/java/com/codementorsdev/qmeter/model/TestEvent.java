@@ -9,6 +9,8 @@ public class TestEvent {
     private long timestamp;
     private String type; // Info, Warning, Debug, Error
     private String message;
+    private TextArena textArena; // When set, the message is stored off-heap under messageRef
+    private int messageRef = -1;
 
     public TestEvent() {
         this.id = UUID.randomUUID().toString();
@@ -21,12 +23,35 @@ public class TestEvent {
         this.message = message;
     }
 
+    /**
+     * Creates an event whose message is stored in the given arena rather than on the heap.
+     */
+    public TestEvent(long timestamp, String type, String message, TextArena textArena) {
+        this(timestamp, type, textArena == null || message == null ? message : null);
+        if (textArena != null && message != null) {
+            this.textArena = textArena;
+            this.messageRef = textArena.append(message);
+        }
+    }
+
     // Getters and Setters
     public String getId() { return id; }
     public long getTimestamp() { return timestamp; }
     public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
-    public String getMessage() { return message; }
-    public void setMessage(String message) { this.message = message; }
+    /**
+     * @return The message, or null for an off-heap message once its text arena has been released.
+     */
+    public String getMessage() {
+        if (messageRef < 0) return message;
+        return textArena.isReleased() ? null : textArena.get(messageRef);
+    }
+    public void setMessage(String message) {
+        this.message = message;
+        this.textArena = null;
+        this.messageRef = -1;
+    }
+    public TextArena getTextArena() { return textArena; }
+    public int getMessageRef() { return messageRef; }
 }
@@ -2,31 +2,43 @@ package com.codementorsdev.qmeter.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.time.Duration;
 import java.util.UUID;
 
 public class TestStep {
     private String id;
     private String description;
-    private String status; // Pass, Fail, Skip, Error (could be granular)
+    private Status status;
     private long duration; // in ms
+    private long durationNanos; // Full precision, when measured with a step timer
 
     public TestStep() {
         this.id = UUID.randomUUID().toString();
     }
 
-    public TestStep(String description, String status, long duration) {
+    public TestStep(String description, Status status, long duration) {
         this();
         this.description = description;
         this.status = status;
         this.duration = duration;
+        this.durationNanos = duration * 1_000_000;
+    }
+
+    public TestStep(String description, Status status, Duration duration) {
+        this(description, status, duration.toMillis());
+        this.durationNanos = duration.toNanos();
     }
 
     // Getters and Setters
     public String getId() { return id; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
     public long getDuration() { return duration; }
-    public void setDuration(long duration) { this.duration = duration; }
+    public void setDuration(long duration) {
+        this.duration = duration;
+        this.durationNanos = duration * 1_000_000;
+    }
+    public long getDurationMicros() { return durationNanos / 1_000; }
 }
\ No newline at end of file
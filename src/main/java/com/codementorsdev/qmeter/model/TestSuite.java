@@ -8,7 +8,7 @@ import java.util.UUID;
 public class TestSuite {
     private String id;
     private String name;
-    private String status; // Pass/Fail
+    private Status status; // PASS/FAIL, or NO_TESTS for an empty suite
     private long duration; // in ms
     @JsonProperty("startTime")
     private long startTime;
@@ -30,7 +30,7 @@ public class TestSuite {
 
     private void calculateMetrics() {
         if (testCases == null || testCases.isEmpty()) {
-            this.status = "No Tests";
+            this.status = Status.NO_TESTS;
             this.duration = 0;
             this.startTime = 0;
             this.endTime = 0;
@@ -39,20 +39,32 @@ public class TestSuite {
 
         long minStartTime = Long.MAX_VALUE;
         long maxEndTime = Long.MIN_VALUE;
-        boolean failed = false;
-        boolean errored = false;
+        StatusCounts counts = new StatusCounts();
 
         for (TestCase tc : testCases) {
             if (tc.getStartTime() < minStartTime) minStartTime = tc.getStartTime();
             if (tc.getEndTime() > maxEndTime) maxEndTime = tc.getEndTime();
-            if ("Fail".equals(tc.getStatus())) failed = true;
-            if ("Error".equals(tc.getStatus())) errored = true;
+            counts.add(tc.getStatus());
         }
 
         this.startTime = minStartTime;
         this.endTime = maxEndTime;
         this.duration = maxEndTime - minStartTime;
-        this.status = failed || errored ? "Fail" : "Pass";
+        this.status = counts.hasFailures() ? Status.FAIL : Status.PASS;
+    }
+
+    /**
+     * Counts the statuses of the test cases currently in this suite.
+     * @return A fresh set of counters.
+     */
+    public StatusCounts countStatuses() {
+        StatusCounts counts = new StatusCounts();
+        if (testCases != null) {
+            for (TestCase tc : testCases) {
+                counts.add(tc.getStatus());
+            }
+        }
+        return counts;
     }
 
     // Getters and Setters
@@ -63,8 +75,8 @@ public class TestSuite {
     }
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
-    public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; } // Can be set manually if needed
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; } // Can be set manually if needed
     public long getDuration() { return duration; }
     public void setDuration(long duration) { this.duration = duration; }
     public long getStartTime() { return startTime; }
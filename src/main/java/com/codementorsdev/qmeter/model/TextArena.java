@@ -0,0 +1,151 @@
+package com.codementorsdev.qmeter.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only store for log and event text, kept as UTF-8 in chunked direct (off-heap) buffers.
+ * <p>
+ * Each appended text gets an int reference; the arena keeps only its chunk, offset and length on the heap,
+ * so a run with millions of log lines holds no {@code String}s for them and they add nothing to GC work.
+ * The serializers copy the bytes straight into the JSON output with {@link #copy}, without decoding.
+ * Texts never span chunks; a text larger than a chunk gets a chunk of its own.
+ * Safe for concurrent use.
+ */
+public class TextArena {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20; // 1 MiB
+
+    private final int chunkSize;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current; // The chunk being filled
+    private int currentIndex;
+    private long[] locations = new long[1024]; // Chunk index in the high 32 bits, offset in the low 32 bits
+    private int[] lengths = new int[1024];
+    private int count;
+    private long usedBytes;
+    private boolean released;
+
+    public TextArena() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public TextArena(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param text The text to store, not null.
+     * @return The reference of the stored text.
+     */
+    public int append(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            ByteBuffer chunk;
+            int chunkIndex;
+            if (bytes.length > chunkSize) {
+                // An oversized text gets a dedicated chunk; keep filling the current one afterwards
+                chunk = ByteBuffer.allocateDirect(bytes.length);
+                chunkIndex = addChunk(chunk);
+            } else {
+                if (current == null || current.remaining() < bytes.length) {
+                    current = ByteBuffer.allocateDirect(chunkSize);
+                    currentIndex = addChunk(current);
+                }
+                chunk = current;
+                chunkIndex = currentIndex;
+            }
+            int offset = chunk.position();
+            chunk.put(bytes);
+
+            if (count == lengths.length) {
+                locations = Arrays.copyOf(locations, Math.max(16, count * 2));
+                lengths = Arrays.copyOf(lengths, Math.max(16, count * 2));
+            }
+            locations[count] = ((long) chunkIndex << 32) | offset;
+            lengths[count] = bytes.length;
+            usedBytes += bytes.length;
+            return count++;
+        }
+    }
+
+    private int addChunk(ByteBuffer chunk) {
+        chunks.add(chunk);
+        return chunks.size() - 1;
+    }
+
+    /**
+     * @param ref A reference returned by {@link #append}.
+     * @return The length of the text in UTF-8 bytes.
+     */
+    public synchronized int length(int ref) {
+        return lengths[ref];
+    }
+
+    /**
+     * Copies the UTF-8 bytes of a text into {@code target}, which must hold at least {@link #length} bytes.
+     * @param ref A reference returned by {@link #append}.
+     * @param target The array to copy into.
+     * @return The number of bytes copied.
+     */
+    public int copy(int ref, byte[] target) {
+        ByteBuffer chunk;
+        int offset;
+        int length;
+        synchronized (this) {
+            chunk = chunks.get((int) (locations[ref] >>> 32));
+            offset = (int) locations[ref];
+            length = lengths[ref];
+        }
+        // Absolute get leaves the chunk position alone, so appends can continue concurrently
+        chunk.get(offset, target, 0, length);
+        return length;
+    }
+
+    /**
+     * Decodes a text back into a String. For callers that need the value itself; the report serializers use {@link #copy}.
+     * @param ref A reference returned by {@link #append}.
+     * @return The text.
+     */
+    public String get(int ref) {
+        byte[] bytes = new byte[length(ref)];
+        copy(ref, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * @return The off-heap bytes in use by stored texts.
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Drops all chunks so their off-heap memory can be reclaimed. References become invalid.
+     */
+    public synchronized void release() {
+        released = true;
+        chunks.clear();
+        current = null;
+        locations = new long[0];
+        lengths = new int[0];
+        count = 0;
+        usedBytes = 0;
+    }
+
+    /**
+     * @return Whether {@link #release} has been called, after which no text can be read back.
+     */
+    public synchronized boolean isReleased() {
+        return released;
+    }
+}
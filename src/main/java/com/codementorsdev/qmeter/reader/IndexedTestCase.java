@@ -0,0 +1,39 @@
+package com.codementorsdev.qmeter.reader;
+
+import com.codementorsdev.qmeter.model.Status;
+
+/**
+ * A single test case entry in a {@link ReportIndex}. Carries only the fields used for querying
+ * plus the byte range of the full test case JSON in the source file.
+ */
+public class IndexedTestCase {
+    private final String id;
+    private final String suiteName;
+    private final String name;
+    private final Status status;
+    private final String environment;
+    private final String platform;
+    private final long offset; // Byte offset of the test case object in the source file
+    private final int length;  // Length of the test case object in bytes
+
+    IndexedTestCase(String id, String suiteName, String name, Status status, String environment, String platform, long offset, int length) {
+        this.id = id;
+        this.suiteName = suiteName;
+        this.name = name;
+        this.status = status;
+        this.environment = environment;
+        this.platform = platform;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getSuiteName() { return suiteName; }
+    public String getName() { return name; }
+    public Status getStatus() { return status; }
+    public String getEnvironment() { return environment; }
+    public String getPlatform() { return platform; }
+    public long getOffset() { return offset; }
+    public int getLength() { return length; }
+}
@@ -0,0 +1,288 @@
+package com.codementorsdev.qmeter.reader;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index over the test cases of one report file. Each queryable field has a posting
+ * {@link BitSet} per distinct value, so a query is a handful of bitset intersections; names are
+ * kept in sorted order for prefix lookups.
+ * The index can be saved to and loaded from a sidecar file so a report only has to be scanned once.
+ */
+public class ReportIndex {
+    static final int FORMAT_VERSION = 3;
+
+    private final List<IndexedTestCase> entries;
+    private final String[] strings; // The report's string table, empty if it has none
+    private final long sourceSize;
+    private final long sourceModified;
+    private final long sourceFingerprint; // CRC32 of the start and end of the report, see ReportReader.fingerprint
+
+    private final BitSet[] byStatus = new BitSet[Status.values().length];
+    private final Map<String, BitSet> bySuite = new HashMap<>();
+    private final Map<String, BitSet> byEnvironment = new HashMap<>();
+    private final Map<String, BitSet> byPlatform = new HashMap<>();
+    private final int[] nameOrder; // Entry positions sorted by name
+
+    ReportIndex(List<IndexedTestCase> entries, String[] strings, long sourceSize, long sourceModified, long sourceFingerprint) {
+        this.entries = entries;
+        this.strings = strings;
+        this.sourceSize = sourceSize;
+        this.sourceModified = sourceModified;
+        this.sourceFingerprint = sourceFingerprint;
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] = new BitSet();
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            IndexedTestCase entry = entries.get(i);
+            byStatus[entry.getStatus().ordinal()].set(i);
+            bySuite.computeIfAbsent(entry.getSuiteName(), k -> new BitSet()).set(i);
+            byEnvironment.computeIfAbsent(entry.getEnvironment(), k -> new BitSet()).set(i);
+            byPlatform.computeIfAbsent(entry.getPlatform(), k -> new BitSet()).set(i);
+        }
+        this.nameOrder = sortByName(entries);
+    }
+
+    private static int[] sortByName(List<IndexedTestCase> entries) {
+        Integer[] order = new Integer[entries.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparing(i -> nameOf(entries.get(i))));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static String nameOf(IndexedTestCase entry) {
+        return entry.getName() == null ? "" : entry.getName();
+    }
+
+    public List<IndexedTestCase> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    String[] getStrings() {
+        return strings;
+    }
+
+    long getSourceSize() {
+        return sourceSize;
+    }
+
+    long getSourceModified() {
+        return sourceModified;
+    }
+
+    long getSourceFingerprint() {
+        return sourceFingerprint;
+    }
+
+    /**
+     * Finds the entries matching all criteria of the query, in report order.
+     * @param query The query to run.
+     * @return The matching entries.
+     */
+    public List<IndexedTestCase> query(ReportQuery query) {
+        BitSet result = new BitSet();
+        result.set(0, entries.size());
+        if (query.getStatuses() != null) {
+            BitSet statuses = new BitSet();
+            for (Status status : query.getStatuses()) {
+                statuses.or(byStatus[status.ordinal()]);
+            }
+            result.and(statuses);
+        }
+        if (query.getSuiteName() != null) result.and(bySuite.getOrDefault(query.getSuiteName(), new BitSet()));
+        if (query.getEnvironment() != null) result.and(byEnvironment.getOrDefault(query.getEnvironment(), new BitSet()));
+        if (query.getPlatform() != null) result.and(byPlatform.getOrDefault(query.getPlatform(), new BitSet()));
+        if (query.getNamePrefix() != null) result.and(withNamePrefix(query.getNamePrefix()));
+
+        List<IndexedTestCase> matches = new ArrayList<>(result.cardinality());
+        for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+            matches.add(entries.get(i));
+        }
+        return matches;
+    }
+
+    private BitSet withNamePrefix(String prefix) {
+        // Binary search for the first name >= prefix, then walk while the prefix still matches
+        int low = 0;
+        int high = nameOrder.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (nameOf(entries.get(nameOrder[mid])).compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        BitSet matches = new BitSet();
+        for (int i = low; i < nameOrder.length && nameOf(entries.get(nameOrder[i])).startsWith(prefix); i++) {
+            matches.set(nameOrder[i]);
+        }
+        return matches;
+    }
+
+    /**
+     * Writes the index as a compact JSON sidecar file. Suite, environment and platform values are
+     * stored once in lookup tables and referenced by position from each entry.
+     * The file is written under a temporary name and moved into place, so a concurrent reader never loads half an index.
+     * @param file The sidecar file to write.
+     * @param factory The factory used to create the generator.
+     * @throws IOException If writing fails.
+     */
+    void save(Path file, JsonFactory factory) throws IOException {
+        Map<String, Integer> suites = new LinkedHashMap<>();
+        Map<String, Integer> environments = new LinkedHashMap<>();
+        Map<String, Integer> platforms = new LinkedHashMap<>();
+        for (IndexedTestCase entry : entries) {
+            suites.putIfAbsent(entry.getSuiteName(), suites.size());
+            environments.putIfAbsent(entry.getEnvironment(), environments.size());
+            platforms.putIfAbsent(entry.getPlatform(), platforms.size());
+        }
+
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            write(tempFile, factory, suites, environments, platforms);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void write(Path file, JsonFactory factory, Map<String, Integer> suites, Map<String, Integer> environments,
+                       Map<String, Integer> platforms) throws IOException {
+        try (JsonGenerator gen = factory.createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            gen.writeNumberField("version", FORMAT_VERSION);
+            gen.writeNumberField("sourceSize", sourceSize);
+            gen.writeNumberField("sourceModified", sourceModified);
+            gen.writeNumberField("sourceFingerprint", sourceFingerprint);
+            writeTable(gen, "suites", suites);
+            writeTable(gen, "environments", environments);
+            writeTable(gen, "platforms", platforms);
+            gen.writeArrayFieldStart("strings");
+            for (String value : strings) {
+                gen.writeString(value);
+            }
+            gen.writeEndArray();
+            gen.writeArrayFieldStart("entries");
+            for (IndexedTestCase entry : entries) {
+                gen.writeStartArray();
+                gen.writeString(entry.getId());
+                gen.writeNumber(suites.get(entry.getSuiteName()));
+                gen.writeString(entry.getName());
+                gen.writeNumber(entry.getStatus().ordinal());
+                gen.writeNumber(environments.get(entry.getEnvironment()));
+                gen.writeNumber(platforms.get(entry.getPlatform()));
+                gen.writeNumber(entry.getOffset());
+                gen.writeNumber(entry.getLength());
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeTable(JsonGenerator gen, String field, Map<String, Integer> table) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (String value : table.keySet()) {
+            gen.writeString(value);
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Reads an index previously written by {@link #save}.
+     * @param file The sidecar file.
+     * @param factory The factory used to create the parser.
+     * @return The loaded index, or null if the file was written by a different format version.
+     * @throws IOException If the file cannot be read or is malformed.
+     */
+    static ReportIndex load(Path file, JsonFactory factory) throws IOException {
+        long sourceSize = -1;
+        long sourceModified = -1;
+        long sourceFingerprint = -1;
+        List<String> suites = new ArrayList<>();
+        List<String> environments = new ArrayList<>();
+        List<String> platforms = new ArrayList<>();
+        List<String> strings = new ArrayList<>();
+        List<IndexedTestCase> entries = new ArrayList<>();
+        Status[] statuses = Status.values();
+
+        try (JsonParser parser = factory.createParser(file.toFile())) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "version":
+                        if (parser.getIntValue() != FORMAT_VERSION) return null;
+                        break;
+                    case "sourceSize": sourceSize = parser.getLongValue(); break;
+                    case "sourceModified": sourceModified = parser.getLongValue(); break;
+                    case "sourceFingerprint": sourceFingerprint = parser.getLongValue(); break;
+                    case "suites": readTable(parser, suites); break;
+                    case "environments": readTable(parser, environments); break;
+                    case "platforms": readTable(parser, platforms); break;
+                    case "strings": readTable(parser, strings); break;
+                    case "entries":
+                        while (parser.nextToken() == JsonToken.START_ARRAY) {
+                            String id = nextText(parser);
+                            String suite = suites.get(nextInt(parser));
+                            String name = nextText(parser);
+                            Status status = statuses[nextInt(parser)];
+                            String environment = environments.get(nextInt(parser));
+                            String platform = platforms.get(nextInt(parser));
+                            parser.nextToken();
+                            long offset = parser.getLongValue();
+                            int length = nextInt(parser);
+                            expect(parser.nextToken(), JsonToken.END_ARRAY);
+                            entries.add(new IndexedTestCase(id, suite, name, status, environment, platform, offset, length));
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        }
+        return new ReportIndex(entries, strings.toArray(new String[0]), sourceSize, sourceModified, sourceFingerprint);
+    }
+
+    private static void readTable(JsonParser parser, List<String> table) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            table.add(parser.getValueAsString());
+        }
+    }
+
+    private static String nextText(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getValueAsString();
+    }
+
+    private static int nextInt(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return parser.getIntValue();
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Malformed report index: expected " + expected + " but found " + actual);
+        }
+    }
+}
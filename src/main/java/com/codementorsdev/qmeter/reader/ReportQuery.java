@@ -0,0 +1,89 @@
+package com.codementorsdev.qmeter.reader;
+
+import com.codementorsdev.qmeter.model.Status;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filter over the test cases of a report. Unset criteria match everything; set criteria are combined with AND.
+ * <pre>
+ * ReportQuery.builder().status(Status.FAIL).platform("Web - Firefox").environment("Staging").build();
+ * </pre>
+ */
+public class ReportQuery {
+    private final Set<Status> statuses;
+    private final String suiteName;
+    private final String environment;
+    private final String platform;
+    private final String namePrefix;
+
+    private ReportQuery(Builder builder) {
+        this.statuses = builder.statuses;
+        this.suiteName = builder.suiteName;
+        this.environment = builder.environment;
+        this.platform = builder.platform;
+        this.namePrefix = builder.namePrefix;
+    }
+
+    public Set<Status> getStatuses() {
+        return statuses;
+    }
+
+    public String getSuiteName() {
+        return suiteName;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Set<Status> statuses; // null matches any status
+        private String suiteName;
+        private String environment;
+        private String platform;
+        private String namePrefix;
+
+        public Builder status(Status first, Status... rest) {
+            this.statuses = EnumSet.of(first, rest);
+            return this;
+        }
+
+        public Builder suiteName(String suiteName) {
+            this.suiteName = suiteName;
+            return this;
+        }
+
+        public Builder environment(String environment) {
+            this.environment = environment;
+            return this;
+        }
+
+        public Builder platform(String platform) {
+            this.platform = platform;
+            return this;
+        }
+
+        public Builder namePrefix(String namePrefix) {
+            this.namePrefix = namePrefix;
+            return this;
+        }
+
+        public ReportQuery build() {
+            return new ReportQuery(this);
+        }
+    }
+}
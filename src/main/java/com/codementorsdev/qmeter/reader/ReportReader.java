@@ -0,0 +1,304 @@
+package com.codementorsdev.qmeter.reader;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.Status;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads generated reports back without materializing the full {@code ReportData}.
+ * <p>
+ * Opening a report scans its embedded JSON once with a streaming parser and records, for every
+ * test case, the fields used for querying and the byte range of the case in the file. The result is
+ * kept in a sidecar index ({@code <report>.idx}) next to the report and reused while the report is unchanged:
+ * same size, same modification time and same checksum of its first and last 64 KiB.
+ * Full test case details are parsed on demand from their byte range, with string table references
+ * (see {@code SymbolTable}) resolved back to their values.
+ * <pre>
+ * ReportReader reader = ReportReader.open(Paths.get("test-reports/report.html"));
+ * List&lt;IndexedTestCase&gt; failed = reader.query(ReportQuery.builder()
+ *         .status(Status.FAIL).platform("Web - Firefox").environment("Staging").build());
+ * </pre>
+ */
+public class ReportReader {
+    static final String INDEX_SUFFIX = ".idx";
+    static final int FINGERPRINT_SPAN = 64 * 1024;
+    private static final byte[] HTML_DATA_MARKER = "window.REPORT_DATA = ".getBytes(StandardCharsets.UTF_8);
+
+    private final Path reportFile;
+    private final ReportIndex index;
+
+    private ReportReader(Path reportFile, ReportIndex index) {
+        this.reportFile = reportFile;
+        this.index = index;
+    }
+
+    /**
+     * Opens a report and loads its sidecar index, building (and saving) the index if it is missing or stale.
+     * Accepts both HTML reports and plain JSON report files.
+     * @param reportFile The report to open.
+     * @return A reader over the report.
+     * @throws IOException If the report cannot be read or parsed.
+     */
+    public static ReportReader open(Path reportFile) throws IOException {
+        JsonFactory factory = ReportJson.reader().getFactory();
+        long size = Files.size(reportFile);
+        long modified = Files.getLastModifiedTime(reportFile).toMillis();
+        long fingerprint = fingerprint(reportFile, size);
+        Path indexFile = indexFileFor(reportFile);
+
+        if (Files.exists(indexFile)) {
+            try {
+                ReportIndex loaded = ReportIndex.load(indexFile, factory);
+                if (loaded != null && loaded.getSourceSize() == size && loaded.getSourceModified() == modified
+                        && loaded.getSourceFingerprint() == fingerprint) {
+                    return new ReportReader(reportFile, loaded);
+                }
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable report index " + indexFile + ": " + e.getMessage());
+            }
+        }
+
+        List<String> strings = new ArrayList<>();
+        List<IndexedTestCase> entries = scan(reportFile, factory, strings);
+        ReportIndex index = new ReportIndex(entries, strings.toArray(new String[0]), size, modified, fingerprint);
+        try {
+            index.save(indexFile, factory);
+        } catch (IOException e) {
+            // Read-only report directories still get an in-memory index
+            System.err.println("Could not write report index " + indexFile + ": " + e.getMessage());
+        }
+        return new ReportReader(reportFile, index);
+    }
+
+    /**
+     * Checksums the first and last 64 KiB of the report (all of it when smaller),
+     * which catches a report rewritten with the same size within the modification time resolution.
+     * The embedded JSON starts with the report id and ends with the summary, so any rewrite changes both ends.
+     */
+    static long fingerprint(Path reportFile, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(reportFile, StandardOpenOption.READ)) {
+            if (size <= 2L * FINGERPRINT_SPAN) {
+                update(crc, channel, 0, (int) size);
+            } else {
+                update(crc, channel, 0, FINGERPRINT_SPAN);
+                update(crc, channel, size - FINGERPRINT_SPAN, FINGERPRINT_SPAN);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void update(CRC32 crc, FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) break; // Truncated since its size was taken; the checksum simply will not match
+        }
+        buffer.flip();
+        crc.update(buffer);
+    }
+
+    static Path indexFileFor(Path reportFile) {
+        return reportFile.resolveSibling(reportFile.getFileName() + INDEX_SUFFIX);
+    }
+
+    public Path getReportFile() {
+        return reportFile;
+    }
+
+    public ReportIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @param query The query to run.
+     * @return The test cases matching the query, in report order.
+     */
+    public List<IndexedTestCase> query(ReportQuery query) {
+        return index.query(query);
+    }
+
+    /**
+     * Parses the full JSON of a single test case (steps, logs, events) from the report.
+     * @param entry An entry returned by this reader.
+     * @return The test case as a JSON tree.
+     * @throws IOException If the report cannot be read.
+     */
+    public JsonNode readTestCase(IndexedTestCase entry) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(entry.getLength());
+        try (FileChannel channel = FileChannel.open(reportFile, StandardOpenOption.READ)) {
+            long position = entry.getOffset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) throw new IOException("Report " + reportFile + " is shorter than its index; reopen it to rebuild the index.");
+                position += read;
+            }
+        }
+        JsonNode testCase = ReportJson.reader().readTree(buffer.array());
+        resolveStrings(testCase);
+        return testCase;
+    }
+
+    private void resolveStrings(JsonNode testCase) {
+        if (index.getStrings().length == 0 || !testCase.isObject()) return;
+        resolveField((ObjectNode) testCase, "environment");
+        resolveField((ObjectNode) testCase, "platform");
+        for (JsonNode step : testCase.path("steps")) {
+            resolveField((ObjectNode) step, "description");
+        }
+        for (JsonNode event : testCase.path("events")) {
+            resolveField((ObjectNode) event, "type");
+        }
+        for (JsonNode attempt : testCase.path("attempts")) {
+            for (JsonNode step : attempt.path("steps")) {
+                resolveField((ObjectNode) step, "description");
+            }
+        }
+    }
+
+    private void resolveField(ObjectNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value != null && value.isInt()) {
+            node.put(field, index.getStrings()[value.intValue()]);
+        }
+    }
+
+    /**
+     * Streams through the report JSON once, collecting an index entry per test case.
+     * The report string table, if any, is added to {@code strings}.
+     */
+    static List<IndexedTestCase> scan(Path reportFile, JsonFactory factory, List<String> strings) throws IOException {
+        List<IndexedTestCase> entries = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(reportFile))) {
+            long dataStart = skipToData(in, reportFile);
+            try (JsonParser parser = factory.createParser(in)) {
+                expect(parser.nextToken(), JsonToken.START_OBJECT, reportFile);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && "suites".equals(field)) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            scanSuite(parser, dataStart, strings, entries);
+                        }
+                    } else if (parser.currentToken() == JsonToken.START_ARRAY && "strings".equals(field)) {
+                        // Written before the suites, so references can be resolved while scanning
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            strings.add(parser.getValueAsString());
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static void scanSuite(JsonParser parser, long dataStart, List<String> strings, List<IndexedTestCase> entries) throws IOException {
+        String suiteName = null;
+        List<String[]> cases = new ArrayList<>();
+        List<long[]> ranges = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(field)) {
+                suiteName = parser.getValueAsString();
+            } else if ("testCases".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    long start = parser.currentTokenLocation().getByteOffset();
+                    cases.add(scanTestCase(parser, strings));
+                    long end = parser.currentLocation().getByteOffset();
+                    ranges.add(new long[] {dataStart + start, end - start});
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        // The suite name is attached afterwards, so field order within the suite does not matter
+        for (int i = 0; i < cases.size(); i++) {
+            String[] tc = cases.get(i);
+            long[] range = ranges.get(i);
+            entries.add(new IndexedTestCase(tc[0], suiteName, tc[1], Status.from(tc[2]), tc[3], tc[4], range[0], (int) range[1]));
+        }
+    }
+
+    private static String[] scanTestCase(JsonParser parser, List<String> strings) throws IOException {
+        String[] fields = new String[5]; // id, name, status, environment, platform
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id": fields[0] = parser.getValueAsString(); break;
+                case "name": fields[1] = parser.getValueAsString(); break;
+                case "status": fields[2] = parser.getValueAsString(); break;
+                case "environment": fields[3] = symbolValue(parser, strings); break;
+                case "platform": fields[4] = symbolValue(parser, strings); break;
+                default: parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static String symbolValue(JsonParser parser, List<String> strings) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_INT ? strings.get(parser.getIntValue()) : parser.getValueAsString();
+    }
+
+    /**
+     * Positions the stream at the start of the report JSON. HTML reports are read up to the
+     * {@code window.REPORT_DATA} assignment; anything else is assumed to be plain JSON.
+     * Checkpoint pages assign data merged in the browser from separate scripts, so they are rejected.
+     * @return The byte offset of the JSON in the file.
+     */
+    private static long skipToData(InputStream in, Path reportFile) throws IOException {
+        in.mark(1);
+        int first = in.read();
+        in.reset();
+        if (first == '{') {
+            return 0;
+        }
+        long position = 0;
+        int matched = 0;
+        int b;
+        while ((b = in.read()) >= 0) {
+            position++;
+            if (b == HTML_DATA_MARKER[matched]) {
+                if (++matched == HTML_DATA_MARKER.length) {
+                    in.mark(1);
+                    int next = in.read();
+                    in.reset();
+                    if (next != '{') {
+                        throw new IOException("No embedded report data in " + reportFile
+                                + "; it looks like a checkpoint page, which loads its data from separate scripts. Open the final report instead.");
+                    }
+                    return position;
+                }
+            } else {
+                // The marker only overlaps itself on its first character, so a mismatch restarts at the current byte
+                matched = b == HTML_DATA_MARKER[0] ? 1 : 0;
+            }
+        }
+        throw new IOException("No report data found in " + reportFile);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, Path reportFile) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Unexpected report structure in " + reportFile + ": expected " + expected + " but found " + actual);
+        }
+    }
+}
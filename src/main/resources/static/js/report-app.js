@@ -1,3 +1,80 @@
+// Aggregated passing steps of a sampled test case (see StepSamplingPolicy)
+const StepSummaryTable = ({ testCase }) => React.createElement('div', null,
+  React.createElement('h4', { className: 'font-semibold mt-4 mb-2 text-gray-800' },
+    'Step Summary', ' (', testCase.recordedSteps, ' steps recorded, ', (testCase.steps || []).length, ' kept in detail)'),
+  React.createElement('table', { className: 'text-xs w-full' },
+    React.createElement('thead', null, React.createElement('tr', { className: 'text-left text-gray-500' },
+      ['Description', 'Count', 'Min', 'Mean', 'Max'].map(h => React.createElement('th', { key: h, className: 'pr-4' }, h)))),
+    React.createElement('tbody', null, testCase.stepSummaries.map(summary => React.createElement('tr', { key: summary.description },
+      React.createElement('td', { className: 'pr-4' }, summary.description),
+      React.createElement('td', { className: 'pr-4' }, summary.count),
+      React.createElement('td', { className: 'pr-4' }, formatDuration(summary.min)),
+      React.createElement('td', { className: 'pr-4' }, formatDuration(summary.mean)),
+      React.createElement('td', { className: 'pr-4' }, formatDuration(summary.max)))))));
+
+
+// Cost of retried test cases (see ReportGenerator.retryTestCase); hidden when nothing was retried
+const RetrySummary = ({ retries }) => !retries || retries.retriedTestCases === 0 ? null : React.createElement('div', { className: 'bg-gray-50 p-6 rounded-xl shadow-sm border border-gray-200 mb-8' },
+  React.createElement('h3', { className: 'text-xl font-semibold text-gray-800 mb-4' }, 'Retries'),
+  React.createElement('div', { className: 'grid grid-cols-2 md:grid-cols-4 gap-4 mb-4' },
+    [['Retried Test Cases', retries.retriedTestCases], ['Flaky (passed on retry)', retries.flakyTestCases],
+     ['Time in Retries', formatDuration(retries.retryTime)], ['Wasted CPU', formatDuration(retries.wastedCpuTime)]].map(([label, value]) =>
+      React.createElement('div', { key: label },
+        React.createElement('p', { className: 'text-sm font-medium text-gray-500' }, label),
+        React.createElement('p', { className: 'text-2xl font-bold text-gray-900 mt-1' }, value)))),
+  React.createElement('table', { className: 'text-sm w-full' },
+    React.createElement('thead', null, React.createElement('tr', { className: 'text-left text-gray-500' },
+      ['Test Case', 'Suite', 'Attempts', 'Final Status', 'Time in Retries', 'Wasted CPU'].map(h => React.createElement('th', { key: h, className: 'pr-4' }, h)))),
+    React.createElement('tbody', null, retries.topTestCases.map(hotspot => React.createElement('tr', { key: hotspot.testCaseId },
+      React.createElement('td', { className: 'pr-4' }, hotspot.name),
+      React.createElement('td', { className: 'pr-4' }, hotspot.suiteName),
+      React.createElement('td', { className: 'pr-4' }, hotspot.attempts),
+      React.createElement('td', { className: 'pr-4', style: { color: STATUS_COLORS[hotspot.status] } }, hotspot.status),
+      React.createElement('td', { className: 'pr-4' }, formatDuration(hotspot.retryTime)),
+      React.createElement('td', { className: 'pr-4' }, formatDuration(hotspot.wastedCpuTime)))))));
+
+// Attempts of a retried test case; the final attempt's steps are the test case's own steps
+const AttemptList = ({ testCase }) => React.createElement('div', null,
+  React.createElement('h4', { className: 'font-semibold mt-4 mb-2 text-gray-800' }, 'Attempts:'),
+  React.createElement('ol', { className: 'list-decimal list-inside space-y-1 text-sm' }, testCase.attempts.map(attempt => React.createElement('li', { key: attempt.number },
+    React.createElement('span', { className: 'font-bold', style: { color: STATUS_COLORS[attempt.status] } }, attempt.status),
+    ' ', formatDuration(attempt.duration),
+    attempt.cpuTime >= 0 ? ` (CPU ${formatDuration(attempt.cpuTime)})` : '',
+    ', ', (attempt.number === testCase.attempts.length ? testCase.steps || [] : attempt.steps || []).length, ' steps'))));
+
+// Concurrency timeline of the run (see ParallelismAnalyzer): running test cases over time,
+// idle gaps in red and the critical path as a Gantt row underneath
+const ParallelismView = ({ parallelism }) => {
+  if (!parallelism || parallelism.testCases === 0 || parallelism.wallTime <= 0) return null;
+  const width = 1000, chartHeight = 120, rowTop = 135, rowHeight = 20;
+  const { timeline, criticalPath } = parallelism;
+  const maxY = Math.max(1, parallelism.peakParallelism);
+  const x = time => (time - parallelism.startTime) / parallelism.wallTime * width;
+  const y = value => chartHeight - value / maxY * chartHeight;
+  const step = width / Math.max(1, timeline.average.length);
+  const toPath = values => 'M0,' + chartHeight + values.map((v, i) => ` L${i * step},${y(v)} L${(i + 1) * step},${y(v)}`).join('') + ` L${values.length * step},${chartHeight} Z`;
+  return React.createElement('div', { className: 'bg-gray-50 p-6 rounded-xl shadow-sm border border-gray-200 mb-8' },
+    React.createElement('h3', { className: 'text-xl font-semibold text-gray-800 mb-4' }, 'Parallelism'),
+    React.createElement('div', { className: 'grid grid-cols-2 md:grid-cols-4 gap-4 mb-4' },
+      [['Average Parallelism', parallelism.averageParallelism.toFixed(2)],
+       ['Peak Parallelism', parallelism.peakParallelism],
+       ['Idle Time', `${formatDuration(parallelism.idleTime)} in ${parallelism.idleGapCount} gaps`],
+       ['Critical Path', `${formatDuration(criticalPath.duration)}, ${criticalPath.length} cases`]].map(([label, value]) =>
+        React.createElement('div', { key: label },
+          React.createElement('p', { className: 'text-sm font-medium text-gray-500' }, label),
+          React.createElement('p', { className: 'text-2xl font-bold text-gray-900 mt-1' }, value)))),
+    React.createElement('svg', { viewBox: `0 0 ${width} ${rowTop + rowHeight}`, className: 'w-full', preserveAspectRatio: 'none' },
+      parallelism.longestIdleGaps.map(gap => React.createElement('rect', { key: gap.startTime, x: x(gap.startTime), y: 0, width: Math.max(1, x(gap.endTime) - x(gap.startTime)), height: chartHeight, fill: STATUS_COLORS.Fail, opacity: 0.15 },
+        React.createElement('title', null, `Idle ${formatDuration(gap.endTime - gap.startTime)}`))),
+      React.createElement('path', { d: toPath(timeline.peak), fill: STATUS_COLORS.Total, opacity: 0.2 }),
+      React.createElement('path', { d: toPath(timeline.average), fill: STATUS_COLORS.Total, opacity: 0.6 }),
+      criticalPath.testCases.map(entry => React.createElement('rect', { key: entry.testCaseId, x: x(entry.startTime), y: rowTop, width: Math.max(1, x(entry.endTime) - x(entry.startTime)), height: rowHeight, fill: STATUS_COLORS.Skip, stroke: '#fff', strokeWidth: 0.5 },
+        React.createElement('title', null, `${entry.name} (${entry.suiteName}) ${formatDuration(entry.endTime - entry.startTime)}`)))),
+    React.createElement('div', { className: 'flex justify-between text-xs text-gray-500 mt-1' },
+      React.createElement('span', null, formatDateTime(parallelism.startTime)),
+      React.createElement('span', null, `Running test cases (peak ${maxY}) and critical path`),
+      React.createElement('span', null, formatDateTime(parallelism.endTime))));
+};
 
 const App = () => {
   const [reportData, setReportData] = React.useState(null);
@@ -5,7 +82,7 @@ const App = () => {
   const [filterStatus, setFilterStatus] = React.useState('All');
   const [filterEnvironment, setFilterEnvironment] = React.useState('All');
   const [filterPlatform, setFilterPlatform] = React.useState('All');
-  
+
   const [expandedSuites, setExpandedSuites] = React.useState({});
   const [expandedTestCases, setExpandedTestCases] = React.useState({});
   const [showFilters, setShowFilters] = React.useState(false);
@@ -19,16 +96,26 @@ const App = () => {
   }, []);
 
   React.useEffect(() => {
-    setReportData(window.REPORT_DATA);
+    setReportData(resolveReportStrings(window.REPORT_DATA));
   }, []);
 
-  // ... rest of your React component code ...
-
-  if (!reportData) {
-    return <div>Loading...</div>;
-  }
-
-  return <div>Report content here...</div>;
+  const handleRefreshReport = ()=>{setReportData(resolveReportStrings(window.REPORT_DATA));setSearchTerm('');setFilterStatus('All');setFilterEnvironment('All');setFilterPlatform('All');setExpandedSuites({});setExpandedTestCases({});};
+  const allEnvironments=React.useMemo(()=>{if(!reportData)return[];const envs=new Set();reportData.suites.forEach(suite=>suite.testCases.forEach(tc=>envs.add(tc.environment)));return['All',...Array.from(envs).sort()]},[reportData]);
+  const allPlatforms=React.useMemo(()=>{if(!reportData)return[];const plats=new Set();reportData.suites.forEach(suite=>suite.testCases.forEach(tc=>plats.add(tc.platform)));return['All',...Array.from(plats).sort()]},[reportData]);
+  const filteredSuites=React.useMemo(()=>{if(!reportData)return[];return reportData.suites.map(suite=>{const filteredTestCases=suite.testCases.filter(testCase=>{const matchesSearch=testCase.name.toLowerCase().includes(searchTerm.toLowerCase())||testCase.description.toLowerCase().includes(searchTerm.toLowerCase())||(testCase.steps||[]).some(step=>step.description.toLowerCase().includes(searchTerm.toLowerCase()));const matchesStatus=filterStatus==='All'||testCase.status===filterStatus;const matchesEnvironment=filterEnvironment==='All'||testCase.environment===filterEnvironment;const matchesPlatform=filterPlatform==='All'||testCase.platform===filterPlatform;return matchesSearch&&matchesStatus&&matchesEnvironment&&matchesPlatform;});if(filteredTestCases.length===0&&(searchTerm||filterStatus!=='All'||filterEnvironment!=='All'||filterPlatform!=='All')){return null;}return{...suite,testCases:filteredTestCases};}).filter(Boolean);},[reportData,searchTerm,filterStatus,filterEnvironment,filterPlatform]);
+  const copyToClipboard=(text,message='Copied to clipboard!')=>{navigator.clipboard.writeText(text).then(()=>{console.log(message);}).catch(err=>{console.error('Failed to copy: ',err);});};
+  if(!reportData){return React.createElement('div',{className:'min-h-screen flex items-center justify-center bg-gray-100 font-inter text-gray-800'},React.createElement('div',{className:'flex items-center space-x-2'},React.createElement('div',{className:'w-4 h-4 border-2 border-t-2 border-gray-900 border-solid rounded-full animate-spin'}),React.createElement('div',null,'Loading Report...')));}
+  const{summary}=reportData;
+  const statusData= [{name:'Passed',value:summary.pass},{name:'Failed',value:summary.fail},{name:'Skipped',value:summary.skip},{name:'Errors',value:summary.error},{name:'Unknown',value:summary.unknown||0}].filter(item=>item.value>0);
+  const suiteExecutionData=filteredSuites.map(suite=>({name:suite.name,duration:suite.duration,})).sort((a,b)=>b.duration-a.duration);
+  const totalFilteredTestCases=filteredSuites.reduce((sum,suite)=>sum+suite.testCases.length,0);
+  const filteredPass=filteredSuites.reduce((sum,suite)=>sum+suite.testCases.filter(tc=>tc.status==='Pass').length,0);
+  const filteredFail=filteredSuites.reduce((sum,suite)=>sum+suite.testCases.filter(tc=>tc.status==='Fail').length,0);
+  const filteredSkip=filteredSuites.reduce((sum,suite)=>sum+suite.testCases.filter(tc=>tc.status==='Skip').length,0);
+  const filteredError=filteredSuites.reduce((sum,suite)=>sum+suite.testCases.filter(tc=>tc.status==='Error').length,0);
+  const filteredStatusData=[{name:'Passed',value:filteredPass},{name:'Failed',value:filteredFail},{name:'Skipped',value:filteredSkip},{name:'Errors',value:filteredError}].filter(item=>item.value>0);
+  return React.createElement('div',{className:'min-h-screen bg-gradient-to-br from-gray-50 to-gray-200 font-inter text-gray-800 p-6 sm:p-8'},React.createElement('div',{className:'max-w-7xl mx-auto bg-white shadow-xl rounded-2xl overflow-hidden border border-gray-200'},React.createElement('header',{className:'bg-gradient-to-r from-blue-600 to-indigo-700 text-white p-6 sm:p-8 flex flex-col sm:flex-row justify-between items-start sm:items-center rounded-t-2xl'},React.createElement('div',null,React.createElement('h1',{className:'text-3xl sm:text-4xl font-extrabold mb-2'},'Test Automation Execution Report'),React.createElement('p',{className:'text-blue-200 text-lg'},'Comprehensive insights into your test runs')),React.createElement('button',{onClick:handleRefreshReport,className:'mt-4 sm:mt-0 px-5 py-2 bg-blue-500 hover:bg-blue-600 rounded-lg text-white font-semibold transition duration-300 ease-in-out flex items-center shadow-md'},React.createElement(lucide_react.RefreshCcwIcon,{size:18,className:'mr-2'}),' Regenerate Report')),React.createElement('section',{className:'p-6 sm:p-8 border-b border-gray-200'},React.createElement('h2',{className:'text-2xl font-bold mb-6 text-gray-900'},'Overall Summary'),React.createElement('div',{className:'grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-4 gap-6 mb-8'},React.createElement('div',{className:'bg-gray-50 p-5 rounded-xl shadow-sm border border-gray-200'},React.createElement('p',{className:'text-sm font-medium text-gray-500'},'Total Test Cases'),React.createElement('p',{className:'text-3xl font-bold text-gray-900 mt-1'},summary.totalTestCases)),React.createElement('div',{className:'bg-gray-50 p-5 rounded-xl shadow-sm border border-gray-200'},React.createElement('p',{className:'text-sm font-medium text-gray-500'},'Total Suites'),React.createElement('p',{className:'text-3xl font-bold text-gray-900 mt-1'},summary.totalSuites)),React.createElement('div',{className:'bg-gray-50 p-5 rounded-xl shadow-sm border border-gray-200'},React.createElement('p',{className:'text-sm font-medium text-gray-500'},'Total Execution Time'),React.createElement('p',{className:'text-3xl font-bold text-gray-900 mt-1'},formatDuration(summary.totalExecutionTime))),React.createElement('div',{className:'bg-gray-50 p-5 rounded-xl shadow-sm border border-gray-200'},React.createElement('p',{className:'text-sm font-medium text-gray-500'},'Start Time'),React.createElement('p',{className:'text-lg font-bold text-gray-900 mt-1'},formatDateTime(summary.startTime)),React.createElement('p',{className:'text-sm font-medium text-gray-500 mt-2'},'End Time'),React.createElement('p',{className:'text-lg font-bold text-gray-900 mt-1'},formatDateTime(summary.endTime)))),React.createElement(RetrySummary,{retries:summary.retries}),React.createElement(ParallelismView,{parallelism:summary.parallelism}),React.createElement('div',{className:'grid grid-cols-1 lg:grid-cols-2 gap-8'},statusData.length>0&&React.createElement('div',{className:'bg-gray-50 p-6 rounded-xl shadow-sm border border-gray-200 flex flex-col items-center'},React.createElement('h3',{className:'text-xl font-semibold mb-4 text-gray-800'},'Test Case Status Distribution'),React.createElement(recharts.ResponsiveContainer,{width:'100%',height:300},React.createElement(recharts.PieChart,null,React.createElement(recharts.Pie,{data:statusData,cx:'50%',cy:'50%',outerRadius:100,fill:'#8884d8',dataKey:'value',labelLine:!1,label:({name,percent})=>`${name}: ${(percent*100).toFixed(0)}%`},statusData.map((entry,index)=>React.createElement(recharts.Cell,{key:`cell-${index}`,fill:STATUS_COLORS[entry.name.replace('ed','')]})),),React.createElement(recharts.Tooltip,{formatter:(value,name)=>[`${value} Test Cases`,name]}),React.createElement(recharts.Legend,null)))),suiteExecutionData.length>0&&React.createElement('div',{className:'bg-gray-50 p-6 rounded-xl shadow-sm border border-gray-200'},React.createElement('h3',{className:'text-xl font-semibold mb-4 text-gray-800'},'Top 5 Suites by Execution Time'),React.createElement(recharts.ResponsiveContainer,{width:'100%',height:300},React.createElement(recharts.BarChart,{data:suiteExecutionData.slice(0,5),margin:{top:5,right:30,left:20,bottom:5},layout:'vertical'},React.createElement(recharts.XAxis,{type:'number',tickFormatter:ms=>formatDuration(ms)}),React.createElement(recharts.YAxis,{type:'category',dataKey:'name',width:120}),React.createElement(recharts.Tooltip,{formatter:value=>formatDuration(value)}),React.createElement(recharts.Bar,{dataKey:'duration',fill:'#8884d8',radius:[10,10,0,0]})))))),React.createElement('section',{className:'p-6 sm:p-8 border-b border-gray-200 bg-gray-50'},React.createElement('div',{className:'flex justify-between items-center mb-4'},React.createElement('h2',{className:'text-2xl font-bold text-gray-900'},'Test Case Details'),React.createElement('button',{onClick:()=>setShowFilters(!showFilters),className:'px-4 py-2 bg-gray-200 hover:bg-gray-300 rounded-lg text-gray-700 font-semibold transition duration-300 ease-in-out flex items-center shadow-sm'},React.createElement(lucide_react.FilterIcon,{size:18,className:'mr-2'}),showFilters?'Hide Filters':'Show Filters')),showFilters&&React.createElement('div',{className:'grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-4 gap-4 mb-6 transition-all duration-300 ease-in-out origin-top scale-y-100 opacity-100'},React.createElement('div',{className:'relative'},React.createElement(lucide_react.SearchIcon,{className:'absolute left-3 top-1/2 -translate-y-1/2 text-gray-400',size:18}),React.createElement('input',{type:'text',placeholder:'Search test cases...',className:'w-full pl-10 pr-4 py-2 border border-gray-300 rounded-lg focus:ring-blue-500 focus:border-blue-500',value:searchTerm,onChange:e=>setSearchTerm(e.target.value)})),React.createElement('select',{className:'w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-blue-500 focus:border-blue-500 appearance-none bg-white bg-no-repeat bg-[length:1.2rem_1.2rem] bg-[right_0.75rem_center]',style:{backgroundImage:`url("data:image/svg+xml,%3Csvg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 24 24'%3E%3Cpath fill='%236B7280' d='M7 10l5 5 5-5z'/%3E%3C/svg%3E")`},value:filterStatus,onChange:e=>setFilterStatus(e.target.value)},React.createElement('option',{value:'All'},'All Statuses'),Object.keys(STATUS_COLORS).map(status=>status!=='Total'&&React.createElement('option',{key:status,value:status},status))),React.createElement('select',{className:'w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-blue-500 focus:border-blue-500 appearance-none bg-white bg-no-repeat bg-[length:1.2rem_1.2rem] bg-[right_0.75rem_center]',style:{backgroundImage:`url("data:image/svg+xml,%3Csvg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 24 24'%3E%3Cpath fill='%236B7280' d='M7 10l5 5 5-5z'/%3E%3C/svg%3E")`},value:filterEnvironment,onChange:e=>setFilterEnvironment(e.target.value)},allEnvironments.map(env=>React.createElement('option',{key:env,value:env},env))),React.createElement('select',{className:'w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-blue-500 focus:border-blue-500 appearance-none bg-white bg-no-repeat bg-[length:1.2rem_1.2rem] bg-[right_0.75rem_center]',style:{backgroundImage:`url("data:image/svg+xml,%3Csvg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 24 24'%3E%3Cpath fill='%236B7280' d='M7 10l5 5 5-5z'/%3E%3C/svg%3E")`},value:filterPlatform,onChange:e=>setFilterPlatform(e.target.value)},allPlatforms.map(plat=>React.createElement('option',{key:plat,value:plat},plat)))),totalFilteredTestCases>0&&React.createElement('div',{className:'grid grid-cols-1 sm:grid-cols-2 lg:grid-cols-4 gap-4 mb-6'},React.createElement('div',{className:'p-3 rounded-lg bg-green-50 text-green-700 font-medium flex items-center justify-between'},'Passed: ',React.createElement('span',{className:'font-bold text-lg'},filteredPass)),React.createElement('div',{className:'p-3 rounded-lg bg-red-50 text-red-700 font-medium flex items-center justify-between'},'Failed: ',React.createElement('span',{className:'font-bold text-lg'},filteredFail)),React.createElement('div',{className:'p-3 rounded-lg bg-yellow-50 text-yellow-700 font-medium flex items-center justify-between'},'Skipped: ',React.createElement('span',{className:'font-bold text-lg'},filteredSkip)),React.createElement('div',{className:'p-3 rounded-lg bg-purple-50 text-purple-700 font-medium flex items-center justify-between'},'Errors: ',React.createElement('span',{className:'font-bold text-lg'},filteredError)))),React.createElement('section',{className:'p-6 sm:p-8'},filteredSuites.length===0?React.createElement('div',{className:'text-center text-gray-600 text-lg py-10'},'No test suites or test cases match your current filters.'):filteredSuites.map(suite=>React.createElement('div',{key:suite.id,className:'mb-8 bg-gray-50 rounded-xl shadow-md border border-gray-200 overflow-hidden'},React.createElement('div',{className:`flex justify-between items-center p-5 cursor-pointer transition-all duration-300 ${expandedSuites[suite.id]?'bg-blue-100':'bg-gray-100 hover:bg-gray-200'}`,onClick:()=>toggleSuiteExpansion(suite.id)},React.createElement('h3',{className:'text-xl font-semibold text-gray-900 flex items-center'},expandedSuites[suite.id]?React.createElement(lucide_react.ChevronDownIcon,{size:20,className:'mr-2 text-blue-600'}):React.createElement(lucide_react.ChevronRightIcon,{size:20,className:'mr-2 text-gray-600'}),suite.name,React.createElement('span',{className:`ml-3 px-3 py-1 text-xs font-bold rounded-full ${suite.status==='Pass'?'bg-green-200 text-green-800':'bg-red-200 text-red-800'}`},suite.status)),React.createElement('div',{className:'text-gray-600 text-sm'},React.createElement('span',{className:'mr-4'},'Cases: ',suite.testCases.length),React.createElement('span',null,'Duration: ',formatDuration(suite.duration)))),expandedSuites[suite.id]&&React.createElement('div',{className:'p-5 border-t border-gray-200'},suite.testCases.length===0?React.createElement('div',{className:'text-center text-gray-500 py-4'},'No test cases in this suite match the filters.'):React.createElement('div',{className:'space-y-4'},suite.testCases.map(testCase=>React.createElement('div',{key:testCase.id,className:'bg-white p-4 rounded-lg shadow-sm border border-gray-200'},React.createElement('div',{className:'flex justify-between items-center cursor-pointer',onClick:()=>toggleTestCaseExpansion(testCase.id)},React.createElement('div',{className:'flex items-center'},expandedTestCases[testCase.id]?React.createElement(lucide_react.ChevronDownIcon,{size:16,className:'mr-2 text-blue-500'}):React.createElement(lucide_react.ChevronRightIcon,{size:16,className:'mr-2 text-gray-500'}),React.createElement('span',{className:`font-medium ${testCase.status==='Pass'?'text-green-700':testCase.status==='Fail'?'text-red-700':testCase.status==='Skip'?'text-yellow-700':'text-purple-700'}`},testCase.status),React.createElement('span',{className:'ml-3 text-gray-900 font-semibold'},testCase.name)),React.createElement('div',{className:'text-gray-600 text-sm'},'Duration: ',formatDuration(preciseDuration(testCase)))),expandedTestCases[testCase.id]&&React.createElement('div',{className:'mt-4 pt-4 border-t border-gray-100 space-y-3 text-sm text-gray-700'},React.createElement('p',null,React.createElement('strong',null,'Description:'),' ',testCase.description),React.createElement('p',null,React.createElement('strong',null,'Start Time:'),' ',formatDateTime(testCase.startTime)),React.createElement('p',null,React.createElement('strong',null,'End Time:'),' ',formatDateTime(testCase.endTime)),React.createElement('p',null,React.createElement('strong',null,'Environment:'),' ',testCase.environment),React.createElement('p',null,React.createElement('strong',null,'Platform:'),' ',testCase.platform),testCase.steps&&testCase.steps.length>0&&React.createElement('div',null,React.createElement('h4',{className:'font-semibold mt-4 mb-2 text-gray-800'},'Steps:'),React.createElement('ul',{className:'list-disc list-inside space-y-1'},testCase.steps.map(step=>React.createElement('li',{key:step.id,className:`${step.status==='Pass'?'text-green-600':'text-red-600'}`},React.createElement('span',{className:'font-bold'},step.status,':'),' ',step.description,' (',formatDuration(preciseDuration(step)),')')))),testCase.attempts&&React.createElement(AttemptList,{testCase}),testCase.stepSummaries&&React.createElement(StepSummaryTable,{testCase}),testCase.logs&&testCase.logs.length>0&&React.createElement('div',null,React.createElement('h4',{className:'font-semibold mt-4 mb-2 text-gray-800 flex items-center'},'Logs:',React.createElement('button',{onClick:()=>copyToClipboard(testCase.logs.join('\n'),'Logs copied!'),className:'ml-2 p-1 rounded-md hover:bg-gray-100 text-gray-500 hover:text-gray-700 transition',title:'Copy logs'},React.createElement(lucide_react.ClipboardIcon,{size:16}))),React.createElement('pre',{className:'bg-gray-100 p-3 rounded-lg text-xs overflow-x-auto max-h-40 whitespace-pre-wrap break-words border border-gray-200'},testCase.logs.join('\n'))),testCase.events&&testCase.events.length>0&&React.createElement('div',null,React.createElement('h4',{className:'font-semibold mt-4 mb-2 text-gray-800'},'Events:'),React.createElement('ul',{className:'space-y-1'},testCase.events.map((event,idx)=>React.createElement('li',{key:idx,className:'text-xs'},React.createElement('span',{className:'font-mono text-gray-500 mr-2'},formatDateTime(event.timestamp)),React.createElement('span',{className:`font-bold ${event.type==='Error'?'text-red-600':event.type==='Warning'?'text-yellow-600':'text-blue-600'}`},'[',event.type,']'),' ',event.message)))))))))))),React.createElement('footer',{className:'bg-gray-800 text-white p-6 sm:p-8 text-center text-sm rounded-b-2xl'},React.createElement('p',null,'© ',new Date().getFullYear(),' Test Automation Report. All rights reserved.'),React.createElement('p',{className:'mt-2 text-gray-400'},'Generated with insights and precision.'))));
 };
 
 ReactDOM.render(React.createElement(App), document.getElementById('root'));
+
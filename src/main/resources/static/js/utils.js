@@ -6,7 +6,10 @@ const generateUUID = () => 'xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx'.replace(/[xy]/
 });
 
 const formatDuration = (ms) => {
-    if (ms < 1000) return `${ms}ms`;
+    // Durations can be fractional milliseconds (see preciseDuration)
+    if (ms > 0 && ms < 1) return `${Math.round(ms * 1000)}µs`;
+    if (ms < 10 && ms % 1 !== 0) return `${ms.toFixed(2)}ms`;
+    if (ms < 1000) return `${Math.round(ms)}ms`;
     const seconds = Math.floor(ms/1000);
     const minutes = Math.floor(seconds/60);
     const hours = Math.floor(minutes/60);
@@ -19,6 +22,9 @@ const formatDuration = (ms) => {
     return parts.join(' ');
 };
 
+// Duration in (fractional) milliseconds, from durationMicros when the report has it
+const preciseDuration = (item) => item.durationMicros != null ? item.durationMicros / 1000 : item.duration;
+
 const formatDateTime = (date) => new Date(date).toLocaleString('en-US', {
     year: 'numeric',
     month: 'short',
@@ -34,5 +40,43 @@ const STATUS_COLORS = {
     'Fail': '#F44336',
     'Skip': '#FFC107',
     'Error': '#9C27B0',
+    'Unknown': '#9E9E9E',
     'Total': '#2196F3'
 };
+
+// Rebuilds report data from checkpoint chunks. Each chunk holds the test cases finished since the
+// previous checkpoint, grouped by suite; suite status and timing are derived from the merged cases.
+const mergeReportChunks = (summary, chunks) => {
+    const suites = new Map();
+    chunks.forEach(chunk => chunk.suites.forEach(delta => {
+        let suite = suites.get(delta.id);
+        if (!suite) {
+            suite = { id: delta.id, name: delta.name, testCases: [] };
+            suites.set(delta.id, suite);
+        }
+        suite.testCases.push(...delta.testCases);
+    }));
+    suites.forEach(suite => {
+        suite.startTime = suite.testCases.reduce((min, tc) => Math.min(min, tc.startTime), Infinity);
+        suite.endTime = suite.testCases.reduce((max, tc) => Math.max(max, tc.endTime), -Infinity);
+        suite.duration = suite.endTime - suite.startTime;
+        suite.status = suite.testCases.some(tc => tc.status === 'Fail' || tc.status === 'Error') ? 'Fail' : 'Pass';
+    });
+    return { suites: Array.from(suites.values()), summary };
+};
+
+// Replaces string table references (integers) in report data with their values. Runs in place and
+// is idempotent; reports without a string table are returned unchanged.
+const resolveReportStrings = (data) => {
+    const strings = data && data.strings;
+    if (!strings) return data;
+    const resolve = (value) => typeof value === 'number' ? strings[value] : value;
+    data.suites.forEach(suite => suite.testCases.forEach(tc => {
+        tc.environment = resolve(tc.environment);
+        tc.platform = resolve(tc.platform);
+        (tc.steps || []).forEach(step => { step.description = resolve(step.description); });
+        (tc.events || []).forEach(event => { event.type = resolve(event.type); });
+        (tc.attempts || []).forEach(attempt => (attempt.steps || []).forEach(step => { step.description = resolve(step.description); }));
+    }));
+    return data;
+};
@@ -1,7 +1,12 @@
 package com.codementorsdev.qmeter; // Make sure this package matches your project setup
 
 import com.codementorsdev.qmeter.*;
+import com.codementorsdev.qmeter.export.CsvExporter;
+import com.codementorsdev.qmeter.export.JUnitXmlExporter;
+import com.codementorsdev.qmeter.export.NdjsonExporter;
+import com.codementorsdev.qmeter.model.StepSamplingPolicy;
 
+import java.time.Duration;
 import java.util.Random;
 
 public class App {
@@ -13,6 +18,12 @@ public class App {
                 .reportFileName("my_automated_report.html") // Name of the generated HTML file
                 .environment("Staging") // Environment detail for the report summary
                 .platform("Chrome 120 (Windows 11)") // Platform detail for the report summary
+                .exporter(new JUnitXmlExporter()) // Optional extra formats written next to the HTML report
+                .exporter(new CsvExporter())
+                .exporter(new NdjsonExporter())
+                .checkpointInterval(Duration.ofSeconds(5)) // Keeps test-reports/checkpoint.html current while the run is in progress
+                .stepSampling(StepSamplingPolicy.sampled(5, 3)) // Bounds steps per case; failing cases keep their last 5 steps
+                .offHeapLogs(true) // Keeps log and event text out of the heap until the report is written
                 .build();
         ReportGenerator.initialize(config);
 
@@ -66,6 +77,9 @@ public class App {
                 // Simulate some initial delay for the test case
                 Thread.sleep(random.nextInt(500) + 100);
 
+                // Time a fast step with the monotonic clock; a body that throws is recorded as Error and rethrown
+                generator.timeStep(currentTestCaseId, "Call health check endpoint", () -> Math.sqrt(random.nextDouble())); // Sub-millisecond work, like a local REST call
+
                 // Simulate steps, logs, and events for the current test case
                 int numSteps = random.nextInt(5) + 3; // Between 3 and 7 steps
                 for (int k = 0; k < numSteps; k++) {
@@ -104,9 +118,9 @@ public class App {
                 String finalStatus = "Pass";
                 // If any step failed or errored, the test case should fail/error
                 // This check accesses the test case from the map using the valid `currentTestCaseId`
+                // hasFailedStep() also sees steps the sampling policy does not keep in detail
                 if (generator.currentTestCaseMap.get(currentTestCaseId) != null &&
-                        generator.currentTestCaseMap.get(currentTestCaseId).getSteps().stream()
-                                .anyMatch(s -> "Fail".equals(s.getStatus()) || "Error".equals(s.getStatus()))) {
+                        generator.currentTestCaseMap.get(currentTestCaseId).hasFailedStep()) {
                     finalStatus = "Fail"; // Or "Error" if an error step was present
                 } else {
                     // Otherwise, randomly assign Pass, Skip, or a general Fail/Error for variety
@@ -122,6 +136,16 @@ public class App {
                     }
                 }
 
+                // Retry failed test cases once, as a test runner with a retry rule would.
+                // The retry is recorded as a new attempt of the same test case rather than a duplicate case.
+                if (finalStatus.equals("Fail") && random.nextDouble() < 0.6) {
+                    generator.retryTestCase(currentTestCaseId, finalStatus);
+                    for (int k = 0; k < 3; k++) {
+                        generator.addStep(currentTestCaseId, stepDescriptions[random.nextInt(stepDescriptions.length)], "Pass", random.nextInt(500) + 50);
+                        Thread.sleep(random.nextInt(50) + 10);
+                    }
+                    finalStatus = random.nextDouble() < 0.7 ? "Pass" : "Fail"; // Flaky tests usually pass on retry
+                }
 
                 generator.endTestCase(currentTestCaseId, finalStatus); // End the test case
                 Thread.sleep(random.nextInt(200) + 50); // Simulate delay between test cases
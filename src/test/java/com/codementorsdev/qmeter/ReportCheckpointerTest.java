@@ -0,0 +1,78 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.reader.ReportReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportCheckpointerTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void flushWritesFinalCheckpointThatTheReaderRejectsClearly() throws IOException {
+        // Long enough that no scheduled checkpoint runs during the test
+        ReportGenerator.initialize(ReportConfig.builder()
+                .outputDirectory(outputDirectory)
+                .checkpointInterval(Duration.ofHours(1))
+                .build());
+        ReportGenerator generator = ReportGenerator.getInstance();
+        String suiteId = generator.startSuite("Suite");
+        generator.endTestCaseAs(generator.startTestCase(suiteId, "First", "", "QA", "API"), Status.PASS);
+        generator.checkpoint();
+        generator.endTestCaseAs(generator.startTestCase(suiteId, "Second", "", "QA", "API"), Status.FAIL);
+        generator.flushReport();
+
+        Path checkpointDirectory = outputDirectory.resolve(ReportCheckpointer.CHECKPOINT_DIRECTORY);
+        assertTrue(Files.exists(checkpointDirectory.resolve("chunk-00002.js")), "stop() writes the pending case");
+        assertTrue(Files.readString(checkpointDirectory.resolve("summary.js")).contains("window.REPORT_CHUNK_COUNT = 2;"));
+
+        IOException error = assertThrows(IOException.class,
+                () -> ReportReader.open(outputDirectory.resolve(ReportCheckpointer.PAGE_FILE_NAME)));
+        assertTrue(error.getMessage().contains("checkpoint page"), error.getMessage());
+    }
+
+    @Test
+    void staleChunksAreDeletedAndSummaryIncludesParallelism() throws IOException {
+        Path checkpointDirectory = outputDirectory.resolve(ReportCheckpointer.CHECKPOINT_DIRECTORY);
+        Files.createDirectories(checkpointDirectory);
+        Files.writeString(checkpointDirectory.resolve("chunk-00001.js"), "window.REPORT_CHUNKS.push({\"suites\":[]});\n");
+        Files.writeString(checkpointDirectory.resolve("chunk-00003.js"), "window.REPORT_CHUNKS.push({\"suites\":[]});\n");
+
+        ReportGenerator.initialize(ReportConfig.builder()
+                .outputDirectory(outputDirectory)
+                .checkpointInterval(Duration.ofHours(1))
+                .build());
+        ReportGenerator generator = ReportGenerator.getInstance();
+        // Deleted when the checkpointer starts, before any case of this run has finished
+        assertFalse(Files.exists(checkpointDirectory.resolve("chunk-00003.js")));
+        String suiteId = generator.startSuite("Suite");
+        String first = generator.startTestCase(suiteId, "First", "", "QA", "API");
+        String second = generator.startTestCase(suiteId, "Second", "", "QA", "API");
+        generator.endTestCaseAs(first, Status.PASS);
+        generator.endTestCaseAs(second, Status.PASS);
+        generator.checkpoint();
+
+        assertTrue(Files.exists(checkpointDirectory.resolve("chunk-00001.js")));
+        assertFalse(Files.exists(checkpointDirectory.resolve("chunk-00003.js")));
+        String summaryScript = Files.readString(checkpointDirectory.resolve("summary.js"));
+        String prefix = "window.REPORT_SUMMARY = ";
+        int start = summaryScript.indexOf(prefix) + prefix.length();
+        JsonNode summary = ReportJson.reader().readTree(summaryScript.substring(start, summaryScript.indexOf(";\n", start)));
+        assertEquals(2, summary.get("parallelism").get("testCases").asInt());
+        generator.flushReport();
+    }
+}
@@ -0,0 +1,69 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.TestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportGeneratorStatusTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private ReportGenerator generator;
+    private String suiteId;
+
+    @BeforeEach
+    void initialize() {
+        ReportGenerator.initialize(ReportConfig.builder().outputDirectory(outputDirectory).build());
+        generator = ReportGenerator.getInstance();
+        suiteId = generator.startSuite("Suite");
+    }
+
+    @AfterEach
+    void flush() {
+        generator.flushReport();
+    }
+
+    private TestCase start(String name) {
+        String id = generator.startTestCase(suiteId, name, "", "QA", "Web");
+        return generator.currentTestCaseMap.get(id);
+    }
+
+    @Test
+    void stringStatusesAreParsed() {
+        TestCase testCase = start("Parsed");
+        generator.addStep(testCase.getId(), "step", "FAILED", 3);
+        generator.retryTestCase(testCase.getId(), "failed");
+        generator.endTestCase(testCase.getId(), "Passed");
+
+        assertEquals(Status.FAIL, testCase.getAttempts().get(0).getStatus());
+        assertEquals(Status.FAIL, testCase.getAttempts().get(0).getSteps().get(0).getStatus());
+        assertEquals(Status.PASS, testCase.getStatus());
+    }
+
+    @Test
+    void nullStatusesAreRecordedAsUnknown() {
+        TestCase literalNull = start("Literal null");
+        generator.addStep(literalNull.getId(), "step", null, 3);
+        generator.retryTestCase(literalNull.getId(), null);
+        generator.endTestCase(literalNull.getId(), null);
+
+        assertEquals(Status.UNKNOWN, literalNull.getAttempts().get(0).getStatus());
+        assertEquals(Status.UNKNOWN, literalNull.getAttempts().get(0).getSteps().get(0).getStatus());
+        assertEquals(Status.UNKNOWN, literalNull.getStatus());
+
+        TestCase typedNull = start("Typed null");
+        generator.retryTestCaseAfter(typedNull.getId(), null);
+        generator.endTestCaseAs(typedNull.getId(), null);
+
+        assertEquals(Status.UNKNOWN, typedNull.getAttempts().get(0).getStatus());
+        assertEquals(Status.UNKNOWN, typedNull.getStatus());
+    }
+}
@@ -0,0 +1,71 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportHtmlEscapingTest {
+    private static final String INJECTION = "</script><script>alert(1)</script>";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void heapTextIsEscaped() throws IOException {
+        flushAndCheck(false);
+    }
+
+    @Test
+    void offHeapTextIsEscaped() throws IOException {
+        flushAndCheck(true); // Arena text is copied as raw UTF-8, which must be escaped as well
+    }
+
+    private void flushAndCheck(boolean offHeapLogs) throws IOException {
+        ReportGenerator.initialize(ReportConfig.builder()
+                .outputDirectory(outputDirectory)
+                .offHeapLogs(offHeapLogs)
+                .checkpointInterval(Duration.ofHours(1))
+                .build());
+        ReportGenerator generator = ReportGenerator.getInstance();
+        String suiteId = generator.startSuite("Suite " + INJECTION);
+        String testCaseId = generator.startTestCase(suiteId, "Case " + INJECTION, "", "QA", "Web");
+        generator.addLog(testCaseId, INJECTION);
+        generator.addStep(testCaseId, "Step " + INJECTION, Status.PASS, Duration.ofMillis(1));
+        generator.addEvent(testCaseId, "Info", INJECTION);
+        generator.endTestCaseAs(testCaseId, Status.PASS);
+        generator.flushReport();
+
+        String html = Files.readString(outputDirectory.resolve("report.html"));
+        assertFalse(html.contains(INJECTION), "recorded text must not close the data script");
+        assertFalse(html.contains("alert(1)</script>"));
+        assertEquals(1, html.split("window.REPORT_DATA = ", -1).length - 1);
+
+        // The escaped JSON still reads back as the recorded text
+        int start = html.indexOf("window.REPORT_DATA = ") + "window.REPORT_DATA = ".length();
+        JsonNode data = ReportJson.reader().readTree(html.substring(start, html.indexOf(";\n", start)));
+        JsonNode testCase = data.get("suites").get(0).get("testCases").get(0);
+        assertEquals("Case " + INJECTION, testCase.get("name").asText());
+        assertEquals(INJECTION, testCase.get("logs").get(0).asText());
+
+        String chunk = Files.readString(outputDirectory.resolve(ReportCheckpointer.CHECKPOINT_DIRECTORY).resolve("chunk-00001.js"));
+        assertTrue(chunk.contains("alert(1)"));
+        assertFalse(chunk.contains("</script>"), "checkpoint chunks are loaded as scripts too");
+    }
+
+    @Test
+    void mapperIsACopy() {
+        assertNotSame(ReportJson.mapper(), ReportJson.mapper());
+    }
+}
@@ -0,0 +1,140 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.TestAttempt;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryTestCaseTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private ReportGenerator generator;
+    private String suiteId;
+
+    @BeforeEach
+    void initialize() {
+        ReportGenerator.initialize(ReportConfig.builder().outputDirectory(outputDirectory).build());
+        generator = ReportGenerator.getInstance();
+        suiteId = generator.startSuite("Suite");
+    }
+
+    private static List<String> descriptions(List<TestStep> steps) {
+        return steps.stream().map(TestStep::getDescription).toList();
+    }
+
+    private JsonNode flushAndReadData() throws IOException {
+        generator.flushReport();
+        String html = Files.readString(outputDirectory.resolve("report.html"));
+        int start = html.indexOf("window.REPORT_DATA = ") + "window.REPORT_DATA = ".length();
+        return ReportJson.reader().readTree(html.substring(start, html.indexOf(";\n", start)));
+    }
+
+    @Test
+    void retryNumbersAttemptsAndMovesStepsIntoThem() throws IOException {
+        String id = generator.startTestCase(suiteId, "Checkout", "", "QA", "Web");
+        TestCase testCase = generator.currentTestCaseMap.get(id);
+        generator.addStep(id, "first try", Status.FAIL, Duration.ofMillis(5));
+        generator.retryTestCaseAfter(id, Status.FAIL);
+        assertTrue(testCase.getSteps().isEmpty(), "a new attempt starts without steps");
+        generator.addStep(id, "second try", Status.ERROR, Duration.ofMillis(5));
+        generator.retryTestCaseAfter(id, Status.ERROR);
+        generator.addStep(id, "third try", Status.PASS, Duration.ofMillis(5));
+        generator.endTestCaseAs(id, Status.PASS);
+
+        List<TestAttempt> attempts = testCase.getAttempts();
+        assertEquals(3, testCase.getAttemptCount());
+        assertEquals(List.of(1, 2, 3), attempts.stream().map(TestAttempt::getNumber).toList());
+        assertEquals(List.of(Status.FAIL, Status.ERROR, Status.PASS), attempts.stream().map(TestAttempt::getStatus).toList());
+        assertEquals(List.of("first try"), descriptions(attempts.get(0).getSteps()));
+        assertEquals(List.of("second try"), descriptions(attempts.get(1).getSteps()));
+        assertEquals(List.of("third try"), descriptions(testCase.getSteps()));
+        assertSame(testCase.getSteps(), attempts.get(2).getSteps());
+        assertEquals(Status.PASS, testCase.getStatus());
+
+        JsonNode data = flushAndReadData();
+        JsonNode json = data.get("suites").get(0).get("testCases").get(0);
+        assertEquals("Pass", json.get("status").asText());
+        assertEquals(1, json.get("steps").size());
+        JsonNode jsonAttempts = json.get("attempts");
+        assertEquals(3, jsonAttempts.size());
+        assertEquals(1, jsonAttempts.get(0).get("number").asInt());
+        assertEquals("Fail", jsonAttempts.get(0).get("status").asText());
+        int description = jsonAttempts.get(0).get("steps").get(0).get("description").asInt(); // Dictionary encoded
+        assertEquals("first try", data.get("strings").get(description).asText());
+        assertEquals("Error", jsonAttempts.get(1).get("status").asText());
+        assertFalse(jsonAttempts.get(2).has("steps"), "the final attempt's steps are the test case's own");
+        for (JsonNode attempt : jsonAttempts) {
+            for (String field : List.of("duration", "startTime", "endTime", "cpuTime")) {
+                assertTrue(attempt.get(field).isNumber(), field);
+            }
+        }
+
+        JsonNode retries = data.get("summary").get("retries");
+        assertEquals(1, retries.get("retriedTestCases").asInt());
+        assertEquals(1, retries.get("flakyTestCases").asInt());
+        assertEquals(2, retries.get("totalRetries").asInt());
+        assertEquals(1, data.get("summary").get("totalTestCases").asInt(), "a retried case is counted once");
+        assertEquals(1, data.get("summary").get("pass").asInt());
+        JsonNode hotspot = retries.get("topTestCases").get(0);
+        assertEquals("Checkout", hotspot.get("name").asText());
+        assertEquals("Suite", hotspot.get("suiteName").asText());
+        assertEquals(3, hotspot.get("attempts").asInt());
+        assertEquals("Pass", hotspot.get("status").asText());
+    }
+
+    @Test
+    void caseRunOnceHasNoAttempts() throws IOException {
+        String id = generator.startTestCase(suiteId, "Login", "", "QA", "Web");
+        TestCase testCase = generator.currentTestCaseMap.get(id);
+        generator.endTestCaseAs(id, Status.PASS);
+
+        assertNull(testCase.getAttempts());
+        assertEquals(1, testCase.getAttemptCount());
+        JsonNode data = flushAndReadData();
+        assertFalse(data.get("suites").get(0).get("testCases").get(0).has("attempts"));
+        assertEquals(0, data.get("summary").get("retries").get("retriedTestCases").asInt());
+    }
+
+    @Test
+    void cpuTimeIsUnknownWhenAnAttemptEndsOnAnotherThread() throws Exception {
+        String id = generator.startTestCase(suiteId, "Async", "", "QA", "Web");
+        TestCase testCase = generator.currentTestCaseMap.get(id);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Attempt 1 starts here and ends on the executor; attempt 2 starts and ends on the executor
+            executor.submit(() -> generator.retryTestCaseAfter(id, Status.FAIL)).get();
+            executor.submit(() -> generator.endTestCaseAs(id, Status.PASS)).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(-1, testCase.getAttempts().get(0).getCpuTime());
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long expectedMinimum = threads.isThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled() ? 0 : -1;
+        assertTrue(testCase.getAttempts().get(1).getCpuTime() >= expectedMinimum);
+        generator.flushReport();
+    }
+}
@@ -0,0 +1,82 @@
+package com.codementorsdev.qmeter;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.TestStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StepTimingTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private ReportGenerator generator;
+    private String testCaseId;
+
+    @BeforeEach
+    void startTestCase() {
+        ReportGenerator.initialize(ReportConfig.builder().outputDirectory(outputDirectory).build());
+        generator = ReportGenerator.getInstance();
+        String suiteId = generator.startSuite("Suite");
+        testCaseId = generator.startTestCase(suiteId, "Case", "", "QA", "API");
+    }
+
+    @AfterEach
+    void flush() {
+        generator.flushReport(); // Also resets the singleton
+    }
+
+    private List<TestStep> steps() {
+        return generator.currentTestCaseMap.get(testCaseId).getSteps();
+    }
+
+    @Test
+    void timeStepRecordsPassWithMeasuredDuration() throws Exception {
+        generator.timeStep(testCaseId, "fast", () -> Thread.sleep(2));
+
+        TestStep step = steps().get(0);
+        assertEquals(Status.PASS, step.getStatus());
+        assertTrue(step.getDurationMicros() >= 2_000, "duration " + step.getDurationMicros() + "µs");
+    }
+
+    @Test
+    void timeStepRecordsErrorAndRethrows() {
+        IOException thrown = new IOException("connection refused");
+        IOException caught = assertThrows(IOException.class, () -> generator.timeStep(testCaseId, "call", () -> {
+            throw thrown;
+        }));
+
+        assertSame(thrown, caught);
+        assertEquals(Status.ERROR, steps().get(0).getStatus());
+    }
+
+    @Test
+    void timeStepRecordsFailForAssertionErrors() {
+        assertThrows(AssertionError.class, () -> generator.timeStep(testCaseId, "check", () -> {
+            throw new AssertionError("expected 200");
+        }));
+
+        assertEquals(Status.FAIL, steps().get(0).getStatus());
+    }
+
+    @Test
+    void stepTimerIsRecordedOnceWithItsStatus() {
+        StepTimer timer = generator.startStep(testCaseId, "manual").fail();
+        timer.close();
+        timer.close();
+
+        assertEquals(1, steps().size());
+        assertEquals(Status.FAIL, steps().get(0).getStatus());
+    }
+}
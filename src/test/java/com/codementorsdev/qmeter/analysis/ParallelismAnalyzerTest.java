@@ -0,0 +1,147 @@
+package com.codementorsdev.qmeter.analysis;
+
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestSuite;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelismAnalyzerTest {
+    private static final long T = 1_700_000_000_000L; // Offsets below are relative to this Unix timestamp
+
+    private static TestCase testCase(String name, long start, long end) {
+        TestCase testCase = new TestCase();
+        testCase.setName(name);
+        testCase.setStartTime(start == 0 && end == 0 ? 0 : T + start);
+        testCase.setEndTime(end == 0 ? 0 : T + end);
+        return testCase;
+    }
+
+    private static List<TestSuite> suite(TestCase... testCases) {
+        TestSuite suite = new TestSuite();
+        suite.setName("Suite");
+        suite.setTestCases(new ArrayList<>(Arrays.asList(testCases)));
+        return List.of(suite);
+    }
+
+    private static List<String> criticalPathNames(ParallelismStats stats) {
+        return stats.getCriticalPath().stream().map(CriticalPathEntry::getName).toList();
+    }
+
+    @Test
+    void fourCaseSchedule() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(
+                testCase("A", 0, 10),
+                testCase("B", 0, 4),
+                testCase("C", 4, 20),
+                testCase("D", 10, 12)));
+
+        assertEquals(4, stats.getTestCases());
+        assertEquals(20, stats.getWallTime());
+        assertEquals(32, stats.getTotalTestTime());
+        assertEquals(1.6, stats.getAverageParallelism(), 1e-9);
+        assertEquals(2, stats.getPeakParallelism());
+        assertEquals(T, stats.getPeakTime());
+        assertEquals(20, stats.getBusyTime());
+        assertEquals(0, stats.getIdleGapCount());
+
+        assertEquals(List.of("B", "C"), criticalPathNames(stats));
+        assertEquals(2, stats.getCriticalPathLength());
+        assertEquals(20, stats.getCriticalPathDuration());
+        assertEquals(0, stats.getCriticalPathWaitTime());
+
+        double area = 0;
+        for (double average : stats.getTimelineAverage()) {
+            area += average * stats.getTimelineBucketWidth();
+        }
+        assertEquals(32, area, 1e-9);
+        assertEquals(2, Arrays.stream(stats.getTimelinePeak()).max().getAsInt());
+    }
+
+    @Test
+    void backToBackCasesDoNotOverlap() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("A", 0, 5), testCase("B", 5, 10)));
+
+        assertEquals(1, stats.getPeakParallelism());
+        assertEquals(1.0, stats.getAverageParallelism(), 1e-9);
+        assertEquals(0, stats.getIdleGapCount());
+        assertEquals(List.of("A", "B"), criticalPathNames(stats));
+        assertEquals(0, stats.getCriticalPathWaitTime());
+    }
+
+    @Test
+    void idleGapsBetweenCases() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("A", 0, 2), testCase("B", 5, 6)));
+
+        assertEquals(1, stats.getIdleGapCount());
+        assertEquals(3, stats.getIdleTime());
+        assertEquals(3, stats.getBusyTime());
+        assertEquals(T + 2, stats.getLongestIdleGaps().get(0).getStartTime());
+        assertEquals(T + 5, stats.getLongestIdleGaps().get(0).getEndTime());
+        assertEquals(List.of("A", "B"), criticalPathNames(stats));
+        assertEquals(3, stats.getCriticalPathWaitTime());
+    }
+
+    @Test
+    void zeroLengthCaseOverlapsWhatIsRunning() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("A", 0, 10), testCase("Z", 5, 5)));
+
+        assertEquals(2, stats.getPeakParallelism());
+        assertEquals(T + 5, stats.getPeakTime());
+        assertEquals(1.0, stats.getAverageParallelism(), 1e-9);
+        assertEquals(0, stats.getIdleGapCount());
+        assertEquals(2, Arrays.stream(stats.getTimelinePeak()).max().getAsInt());
+    }
+
+    @Test
+    void zeroLengthCaseAtTheEndOfAnother() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("A", 0, 10), testCase("Z", 10, 10)));
+
+        assertEquals(1, stats.getPeakParallelism());
+        assertEquals(List.of("A", "Z"), criticalPathNames(stats));
+    }
+
+    @Test
+    void zeroWallTime() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("Y", 3, 3), testCase("Z", 3, 3)));
+
+        assertEquals(2, stats.getTestCases());
+        assertEquals(0, stats.getWallTime());
+        assertEquals(2.0, stats.getAverageParallelism(), 1e-9);
+        assertEquals(2, stats.getPeakParallelism());
+        assertEquals(T + 3, stats.getPeakTime());
+        assertEquals(0, stats.getTimelineAverage().length);
+        assertEquals(0, stats.getCriticalPathDuration());
+        assertEquals(2, stats.getCriticalPathLength());
+    }
+
+    @Test
+    void casesThatNeverEndedAreIgnored() {
+        TestCase running = testCase("Running", 2, 0);
+        TestCase endedBeforeStart = testCase("Broken", 8, 0);
+        endedBeforeStart.setEndTime(T + 1);
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("A", 0, 4), running, endedBeforeStart));
+
+        assertEquals(1, stats.getTestCases());
+        assertEquals(4, stats.getWallTime());
+        assertEquals(1, stats.getPeakParallelism());
+        assertEquals(List.of("A"), criticalPathNames(stats));
+    }
+
+    @Test
+    void noEndedCases() {
+        ParallelismStats stats = ParallelismAnalyzer.analyze(suite(testCase("Running", 2, 0)));
+
+        assertEquals(0, stats.getTestCases());
+        assertEquals(0, stats.getPeakParallelism());
+        assertEquals(0.0, stats.getAverageParallelism());
+        assertTrue(stats.getCriticalPath().isEmpty());
+        assertTrue(stats.getLongestIdleGaps().isEmpty());
+        assertEquals(0, stats.getTimelineAverage().length);
+    }
+}
@@ -0,0 +1,94 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JUnitXmlExporterTest {
+
+    @Test
+    void dropsCharactersXmlCannotRepresent() {
+        assertEquals("[31mred[0m", JUnitXmlExporter.xmlSafe("\u001b[31mred\u001b[0m"));
+        assertEquals("tab\tnew\nline", JUnitXmlExporter.xmlSafe("tab\tnew\nline"));
+        assertEquals("emoji 😀 kept", JUnitXmlExporter.xmlSafe("emoji 😀 kept"));
+        assertEquals("lone  dropped", JUnitXmlExporter.xmlSafe("lone \uD800 dropped"));
+        assertEquals("", JUnitXmlExporter.xmlSafe(null));
+    }
+
+    @Test
+    void writesParseableXmlForLogsWithControlCharacters() throws Exception {
+        TestSuite suite = new TestSuite();
+        suite.setName("Suite \u0007");
+        suite.setTestCases(new ArrayList<>());
+        TestCase testCase = new TestCase("Case \u001b", "", "QA", "Web");
+        testCase.addLog("\u001b[31mERROR\u001b[0m something failed");
+        testCase.end(Status.FAIL);
+        suite.getTestCases().add(testCase);
+
+        StatusCounts counts = new StatusCounts();
+        counts.add(Status.FAIL);
+        Summary summary = new Summary(1, counts, 10, 0, 10, "QA", "Web");
+
+        Document document = export(suite, testCase, summary);
+        assertEquals("[31mERROR[0m something failed\n", document.getElementsByTagName("system-out").item(0).getTextContent());
+        assertEquals("Case ", document.getElementsByTagName("testcase").item(0).getAttributes().getNamedItem("name").getNodeValue());
+    }
+
+    @Test
+    void failureNamesTheFirstFailingStep() throws Exception {
+        TestSuite suite = new TestSuite();
+        suite.setName("Checkout");
+        suite.setTestCases(new ArrayList<>());
+        suite.setStartTime(1_700_000_000_123L);
+        TestCase testCase = new TestCase("Pay by card", "", "QA", "Web");
+        testCase.recordStep(new TestStep("Open cart", Status.PASS, 1));
+        testCase.recordStep(new TestStep("Pay", Status.FAIL, 1));
+        testCase.recordStep(new TestStep("Show receipt", Status.ERROR, 1));
+        testCase.addLog(null);
+        testCase.end(Status.FAIL);
+        suite.getTestCases().add(testCase);
+
+        Document document = export(suite, testCase, new Summary(1, new StatusCounts(), 10, 0, 10, "QA", "Web"));
+        Element failure = (Element) document.getElementsByTagName("failure").item(0);
+        assertEquals("Fail at step \"Pay\" in QA on Web", failure.getAttribute("message"));
+        assertEquals("\n", document.getElementsByTagName("system-out").item(0).getTextContent());
+
+        String timestamp = ((Element) document.getElementsByTagName("testsuite").item(0)).getAttribute("timestamp");
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(1_700_000_000_123L), ZoneId.systemDefault()).withNano(0).toString(), timestamp);
+        assertEquals(19, timestamp.length()); // No fraction or zone
+    }
+
+    @Test
+    void failureWithoutFailingStep() {
+        TestCase testCase = new TestCase("Timed out", "", "QA", "Web");
+        testCase.recordStep(new TestStep("Open cart", Status.PASS, 1));
+        testCase.end(Status.ERROR);
+        assertEquals("Error in QA on Web", JUnitXmlExporter.failureMessage(testCase));
+    }
+
+    private static Document export(TestSuite suite, TestCase testCase, Summary summary) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportExporter.Sink sink = new JUnitXmlExporter().open(out, summary);
+        sink.beginSuite(suite);
+        sink.testCase(suite, testCase);
+        sink.endSuite(suite);
+        sink.close();
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
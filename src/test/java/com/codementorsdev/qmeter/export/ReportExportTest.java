@@ -0,0 +1,125 @@
+package com.codementorsdev.qmeter.export;
+
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.StepSamplingPolicy;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportExportTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private static TestSuite suite(int testCases) {
+        TestSuite suite = new TestSuite();
+        suite.setName("Suite");
+        suite.setTestCases(new ArrayList<>());
+        for (int i = 0; i < testCases; i++) {
+            TestCase testCase = new TestCase("Case " + i, "", "QA", "Web");
+            testCase.end(Status.PASS);
+            suite.getTestCases().add(testCase);
+        }
+        return suite;
+    }
+
+    private static Summary summary(TestSuite suite) {
+        StatusCounts counts = new StatusCounts();
+        suite.getTestCases().forEach(tc -> counts.add(tc.getStatus()));
+        return new Summary(1, counts, 10, 0, 10, "QA", "Web");
+    }
+
+    @Test
+    void uncheckedExporterFailuresDoNotAffectOtherExporters() throws Exception {
+        TestSuite suite = suite(3);
+        Files.writeString(outputDirectory.resolve("case.txt"), "previous run");
+
+        ReportExporter failsOnOpen = new FailingExporter("open.txt", 0);
+        ReportExporter failsOnTestCase = new FailingExporter("case.txt", 2);
+        ReportExport.run(outputDirectory, List.of(failsOnOpen, failsOnTestCase, new CsvExporter()), List.of(suite), summary(suite));
+
+        List<String> csv = Files.readAllLines(outputDirectory.resolve(new CsvExporter().getFileName()));
+        assertEquals(4, csv.size()); // Header and one row per test case
+        // Abandoned exports leave no partial output, and an earlier file of the same name is kept
+        assertFalse(Files.exists(outputDirectory.resolve("open.txt")));
+        assertEquals("previous run", Files.readString(outputDirectory.resolve("case.txt")));
+        try (Stream<Path> files = Files.list(outputDirectory)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    void csvCountsEveryRecordedStep() throws Exception {
+        TestSuite suite = suite(0);
+        TestCase testCase = new TestCase("Sampled", "", "QA", "Web");
+        testCase.setStepSampling(StepSamplingPolicy.sampled(2, 0));
+        for (int i = 0; i < 10; i++) {
+            testCase.recordStep(new TestStep("step " + i, Status.PASS, 1));
+        }
+        testCase.end(Status.PASS);
+        suite.getTestCases().add(testCase);
+
+        ReportExport.run(outputDirectory, List.of(new CsvExporter()), List.of(suite), summary(suite));
+
+        String row = Files.readAllLines(outputDirectory.resolve(new CsvExporter().getFileName())).get(1);
+        assertEquals("10", row.split(",")[8]); // None of the steps were kept in detail
+    }
+
+    /**
+     * Throws an unchecked exception when opened (failAfter 0) or on the given test case.
+     */
+    private static class FailingExporter implements ReportExporter {
+        private final String fileName;
+        private final int failAfter;
+
+        FailingExporter(String fileName, int failAfter) {
+            this.fileName = fileName;
+            this.failAfter = failAfter;
+        }
+
+        @Override
+        public String getFileName() {
+            return fileName;
+        }
+
+        @Override
+        public Sink open(OutputStream out, Summary summary) {
+            if (failAfter == 0) throw new IllegalStateException("broken exporter");
+            return new Sink() {
+                private int cases;
+
+                @Override
+                public void beginSuite(TestSuite suite) {
+                }
+
+                @Override
+                public void testCase(TestSuite suite, TestCase testCase) {
+                    if (++cases == failAfter) throw new IllegalStateException("broken sink");
+                }
+
+                @Override
+                public void endSuite(TestSuite suite) {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
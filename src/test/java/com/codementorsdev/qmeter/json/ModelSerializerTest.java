@@ -0,0 +1,40 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TextArena;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelSerializerTest {
+
+    private static String logOfLength(int length) {
+        // Multi-byte characters make the UTF-8 length differ from the String length
+        return "é".repeat(length / 4) + "x".repeat(length - length / 4);
+    }
+
+    private static String writeAndReadLog(String log) throws Exception {
+        TestCase testCase = new TestCase("Case", "", "QA", "API");
+        testCase.setTextArena(new TextArena(1024));
+        testCase.addLog(log);
+        JsonNode json = ReportJson.reader().readTree(ReportJson.mapper().writeValueAsBytes(testCase));
+        return json.get("logs").get(0).asText();
+    }
+
+    @Test
+    void scratchGrowsForModerateTexts() throws Exception {
+        String log = logOfLength(20_000);
+        assertEquals(log, writeAndReadLog(log));
+        assertTrue(ModelSerializer.scratchSize() >= 20_000);
+        assertTrue(ModelSerializer.scratchSize() <= ModelSerializer.MAX_SCRATCH_SIZE);
+    }
+
+    @Test
+    void hugeTextDoesNotGrowTheScratch() throws Exception {
+        String log = logOfLength(3 * ModelSerializer.MAX_SCRATCH_SIZE);
+        assertEquals(log, writeAndReadLog(log));
+        assertTrue(ModelSerializer.scratchSize() <= ModelSerializer.MAX_SCRATCH_SIZE, "scratch kept " + ModelSerializer.scratchSize() + " bytes");
+    }
+}
@@ -0,0 +1,203 @@
+package com.codementorsdev.qmeter.json;
+
+import com.codementorsdev.qmeter.analysis.ParallelismAnalyzer;
+import com.codementorsdev.qmeter.model.ReportData;
+import com.codementorsdev.qmeter.model.RetryStats;
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.StepSamplingPolicy;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.SymbolTable;
+import com.codementorsdev.qmeter.model.TestAttempt;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestEvent;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the JSON shape that {@code report-app.js} reads: field names and their order, which fields
+ * are left out when empty and which are written as null. A change here is a change to the viewer contract.
+ */
+class ReportJsonShapeTest {
+    private static final List<String> TEST_CASE_FIELDS = List.of("id", "name", "description", "status", "duration",
+            "durationMicros", "startTime", "endTime", "environment", "platform");
+
+    private static JsonNode report;
+
+    @BeforeAll
+    static void writeReport() throws IOException {
+        SymbolTable symbols = new SymbolTable();
+
+        TestCase full = testCase(symbols, "Pay by card");
+        full.recordStep(new TestStep("Open cart", Status.PASS, 2));
+        full.recordStep(new TestStep("Pay", Status.FAIL, 3));
+        full.addLog("Card declined");
+        full.setEvents(new ArrayList<>(List.of(new TestEvent(1_000, "Info", "Retrying payment"))));
+        full.end(Status.FAIL);
+        List<TestAttempt> attempts = new ArrayList<>();
+        attempts.add(new TestAttempt(1, Status.FAIL, 100, 150, -1, List.of(new TestStep("Pay", Status.FAIL, 3))));
+        attempts.add(new TestAttempt(2, Status.FAIL, 160, 200, 12, full.getSteps()));
+        full.setAttempts(attempts);
+
+        TestCase sampled = testCase(symbols, "Browse catalogue");
+        sampled.setStepSampling(StepSamplingPolicy.sampled(1, 0));
+        for (int i = 0; i < 5; i++) {
+            sampled.recordStep(new TestStep("Next page", Status.PASS, 1));
+        }
+        sampled.end(Status.PASS);
+
+        TestCase bare = new TestCase();
+        bare.setName("Never ended");
+
+        TestSuite checkout = new TestSuite("Checkout", new ArrayList<>(List.of(full, sampled, bare)));
+        TestSuite empty = new TestSuite("Empty", new ArrayList<>());
+        List<TestSuite> suites = List.of(checkout, empty);
+
+        RetryStats retries = new RetryStats();
+        retries.add(checkout, full);
+        Summary summary = new Summary(2, new StatusCounts(), 10, 0, 10, null, "Web");
+        summary.setRetries(retries);
+        summary.setParallelism(ParallelismAnalyzer.analyze(suites));
+        ReportData data = new ReportData(suites, summary);
+        data.setSymbols(symbols);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportJson.write(out, data);
+        report = ReportJson.reader().readTree(out.toByteArray());
+    }
+
+    private static TestCase testCase(SymbolTable symbols, String name) {
+        TestCase testCase = new TestCase(name, "", symbols.intern("QA"), symbols.intern("Web"));
+        testCase.setSymbols(symbols);
+        return testCase;
+    }
+
+    private static List<String> fields(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static List<String> with(List<String> base, String... extra) {
+        List<String> names = new ArrayList<>(base);
+        names.addAll(List.of(extra));
+        return names;
+    }
+
+    private static JsonNode testCase(int index) {
+        return report.get("suites").get(0).get("testCases").get(index);
+    }
+
+    private static String resolve(JsonNode reference) {
+        return report.get("strings").get(reference.asInt()).asText();
+    }
+
+    @Test
+    void topLevelFields() {
+        assertEquals(List.of("id", "strings", "suites", "summary"), fields(report));
+        assertTrue(report.get("strings").isArray());
+    }
+
+    @Test
+    void suiteFieldsAndEmptyTestCases() {
+        JsonNode suite = report.get("suites").get(0);
+        assertEquals(List.of("id", "name", "status", "duration", "startTime", "endTime", "testCases"), fields(suite));
+        assertEquals("Fail", suite.get("status").asText());
+        // The viewer iterates testCases unconditionally, so an empty suite still has the array
+        JsonNode empty = report.get("suites").get(1);
+        assertTrue(empty.get("testCases").isArray());
+        assertEquals(0, empty.get("testCases").size());
+    }
+
+    @Test
+    void fullTestCase() {
+        JsonNode testCase = testCase(0);
+        assertEquals(with(TEST_CASE_FIELDS, "steps", "attempts", "logs", "events"), fields(testCase));
+        assertEquals("Fail", testCase.get("status").asText());
+        assertEquals("QA", resolve(testCase.get("environment")));
+        assertEquals("Web", resolve(testCase.get("platform")));
+
+        JsonNode step = testCase.get("steps").get(1);
+        assertEquals(List.of("id", "description", "status", "duration", "durationMicros"), fields(step));
+        assertEquals("Pay", resolve(step.get("description")));
+        assertEquals(3, step.get("duration").asLong());
+        assertEquals(3_000, step.get("durationMicros").asLong());
+
+        assertEquals("Card declined", testCase.get("logs").get(0).asText());
+
+        JsonNode event = testCase.get("events").get(0);
+        assertEquals(List.of("id", "timestamp", "type", "message"), fields(event));
+        assertEquals("Retrying payment", event.get("message").asText());
+    }
+
+    @Test
+    void onlyEarlierAttemptsCarryTheirSteps() {
+        JsonNode attempts = testCase(0).get("attempts");
+        List<String> attemptFields = List.of("number", "status", "duration", "startTime", "endTime", "cpuTime");
+        assertEquals(with(attemptFields, "steps"), fields(attempts.get(0)));
+        assertEquals(-1, attempts.get(0).get("cpuTime").asLong());
+        // The final attempt's steps are the test case's own
+        assertEquals(attemptFields, fields(attempts.get(1)));
+        assertEquals(40, attempts.get(1).get("duration").asLong());
+    }
+
+    @Test
+    void sampledTestCaseWritesSummariesInsteadOfSteps() {
+        JsonNode testCase = testCase(1);
+        assertEquals(with(TEST_CASE_FIELDS, "recordedSteps", "stepSummaries"), fields(testCase));
+        assertEquals(5, testCase.get("recordedSteps").asInt());
+        JsonNode summary = testCase.get("stepSummaries").get(0);
+        assertEquals(List.of("description", "count", "min", "max", "mean"), fields(summary));
+        assertEquals("Next page", summary.get("description").asText());
+        assertEquals(5, summary.get("count").asInt());
+        assertEquals(1.0, summary.get("min").asDouble()); // ms, aggregated in µs
+    }
+
+    @Test
+    void emptyListsAreLeftOutAndNullsWritten() {
+        JsonNode testCase = testCase(2);
+        assertEquals(TEST_CASE_FIELDS, fields(testCase));
+        assertTrue(testCase.get("status").isNull());
+        assertTrue(testCase.get("description").isNull());
+        assertTrue(testCase.get("environment").isNull());
+        assertTrue(testCase.get("platform").isNull());
+    }
+
+    @Test
+    void summaryFields() {
+        JsonNode summary = report.get("summary");
+        assertEquals(List.of("totalSuites", "totalTestCases", "pass", "fail", "skip", "error", "unknown",
+                "totalExecutionTime", "startTime", "endTime", "environment", "platform", "retries", "parallelism"), fields(summary));
+        assertTrue(summary.get("environment").isNull());
+        assertEquals("Web", summary.get("platform").asText());
+
+        JsonNode retries = summary.get("retries");
+        assertEquals(List.of("retriedTestCases", "flakyTestCases", "totalRetries", "retryTime", "wastedCpuTime", "topTestCases"), fields(retries));
+        assertEquals(List.of("testCaseId", "name", "suiteName", "attempts", "status", "retryTime", "wastedCpuTime"),
+                fields(retries.get("topTestCases").get(0)));
+        assertEquals(50, retries.get("retryTime").asLong());
+    }
+
+    @Test
+    void parallelismFields() {
+        JsonNode parallelism = report.get("summary").get("parallelism");
+        assertEquals(List.of("testCases", "startTime", "endTime", "wallTime", "totalTestTime", "busyTime",
+                "averageParallelism", "peakParallelism", "peakTime", "idleGapCount", "idleTime", "longestIdleGaps",
+                "criticalPath", "timeline"), fields(parallelism));
+        JsonNode criticalPath = parallelism.get("criticalPath");
+        assertEquals(List.of("duration", "waitTime", "length", "testCases"), fields(criticalPath));
+        assertEquals(List.of("testCaseId", "name", "suiteName", "startTime", "endTime"), fields(criticalPath.get("testCases").get(0)));
+        assertEquals(List.of("bucketWidth", "average", "peak"), fields(parallelism.get("timeline")));
+    }
+}
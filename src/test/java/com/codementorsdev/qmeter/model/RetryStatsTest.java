@@ -0,0 +1,86 @@
+package com.codementorsdev.qmeter.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryStatsTest {
+
+    /**
+     * @param attempts Status and duration in ms of each attempt, the last one final.
+     */
+    private static TestCase retried(String name, Status finalStatus, long cpuTime, Object... attempts) {
+        TestCase testCase = new TestCase();
+        testCase.setName(name);
+        testCase.setStatus(finalStatus);
+        List<TestAttempt> list = new ArrayList<>();
+        long time = 1_000;
+        for (int i = 0; i < attempts.length; i += 2) {
+            long duration = (Long) attempts[i + 1];
+            list.add(new TestAttempt(list.size() + 1, (Status) attempts[i], time, time + duration, cpuTime, null));
+            time += duration;
+        }
+        testCase.setAttempts(list);
+        return testCase;
+    }
+
+    private static TestSuite suite() {
+        TestSuite suite = new TestSuite();
+        suite.setName("Suite");
+        return suite;
+    }
+
+    @Test
+    void flakyAndFailedAfterRetries() {
+        RetryStats stats = new RetryStats();
+        TestSuite suite = suite();
+        stats.add(suite, retried("flaky", Status.PASS, 7, Status.FAIL, 100L, Status.PASS, 50L));
+        stats.add(suite, retried("broken", Status.FAIL, -1, Status.FAIL, 30L, Status.ERROR, 40L, Status.FAIL, 20L));
+        stats.add(suite, retried("once", Status.PASS, 3, Status.PASS, 10L));
+        TestCase neverRetried = new TestCase();
+        neverRetried.setStatus(Status.FAIL);
+        stats.add(suite, neverRetried);
+
+        assertEquals(2, stats.getRetriedTestCases());
+        assertEquals(1, stats.getFlakyTestCases());
+        assertEquals(3, stats.getTotalRetries());
+        assertEquals(100 + 30 + 40, stats.getRetryTime()); // Final attempts are not retry time
+        assertEquals(7, stats.getWastedCpuTime()); // Unmeasured attempts (-1) add nothing
+    }
+
+    @Test
+    void zeroCpuTimeIsCountedAsMeasured() {
+        RetryStats stats = new RetryStats();
+        stats.add(suite(), retried("fast", Status.PASS, 0, Status.FAIL, 5L, Status.PASS, 5L));
+
+        assertEquals(0, stats.getWastedCpuTime());
+        assertEquals(0, stats.getTopTestCases().get(0).getWastedCpuTime());
+    }
+
+    @Test
+    void hotspotsKeepTheCostliestCasesFirst() {
+        RetryStats stats = new RetryStats();
+        TestSuite suite = suite();
+        for (int i = 1; i <= RetryStats.TOP_LIMIT + 5; i++) {
+            // Interleave cheap and costly cases so insertion order does not match cost order
+            long cost = i % 2 == 0 ? i * 10L : i;
+            stats.add(suite, retried("case " + i, Status.FAIL, -1, Status.FAIL, cost, Status.FAIL, 1L));
+        }
+
+        List<RetryHotspot> top = stats.getTopTestCases();
+        assertEquals(RetryStats.TOP_LIMIT, top.size());
+        assertEquals("case 14", top.get(0).getName());
+        assertEquals(140, top.get(0).getRetryTime());
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getRetryTime() >= top.get(i).getRetryTime());
+        }
+        RetryHotspot hotspot = top.get(0);
+        assertEquals(2, hotspot.getAttempts());
+        assertEquals(Status.FAIL, hotspot.getStatus());
+        assertEquals("Suite", hotspot.getSuiteName());
+    }
+}
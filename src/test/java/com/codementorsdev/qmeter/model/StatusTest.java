@@ -0,0 +1,88 @@
+package com.codementorsdev.qmeter.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusTest {
+
+    @Test
+    void fromAcceptsLabelsAndCommonSpellings() {
+        for (String value : new String[] {"FAILED", "fail", "Fail", "failure", " Failed "}) {
+            assertEquals(Status.FAIL, Status.from(value), value);
+        }
+        for (String value : new String[] {"Pass", "PASSED", "pass"}) {
+            assertEquals(Status.PASS, Status.from(value), value);
+        }
+        assertEquals(Status.SKIP, Status.from("Skipped"));
+        assertEquals(Status.ERROR, Status.from("errored"));
+        assertEquals(Status.ERROR, Status.from("Broken"));
+        assertEquals(Status.NO_TESTS, Status.from("No Tests"));
+        assertEquals(Status.UNKNOWN, Status.from("Unknown"));
+    }
+
+    @Test
+    void fromMapsUnrecognisedValuesAndNullToUnknown() {
+        assertEquals(Status.UNKNOWN, Status.from("flaky"));
+        assertEquals(Status.UNKNOWN, Status.from(""));
+        assertEquals(Status.UNKNOWN, Status.from(null));
+    }
+
+    @Test
+    void labelsRoundTrip() {
+        for (Status status : Status.values()) {
+            assertEquals(status, Status.from(status.getLabel()));
+        }
+    }
+
+    @Test
+    void failuresAreFailAndError() {
+        assertTrue(Status.FAIL.isFailure());
+        assertTrue(Status.ERROR.isFailure());
+        assertFalse(Status.PASS.isFailure());
+        assertFalse(Status.SKIP.isFailure());
+        assertFalse(Status.UNKNOWN.isFailure());
+    }
+
+    @Test
+    void countsPerStatus() {
+        StatusCounts counts = new StatusCounts();
+        counts.add(Status.PASS);
+        counts.add(Status.PASS);
+        counts.add(Status.SKIP);
+        counts.add(null); // Counted as unknown
+        assertFalse(counts.hasFailures());
+
+        StatusCounts other = new StatusCounts();
+        other.add(Status.ERROR);
+        other.add(Status.UNKNOWN);
+        counts.addAll(other);
+
+        assertEquals(2, counts.get(Status.PASS));
+        assertEquals(0, counts.get(Status.FAIL));
+        assertEquals(1, counts.get(Status.SKIP));
+        assertEquals(1, counts.get(Status.ERROR));
+        assertEquals(2, counts.get(Status.UNKNOWN));
+        assertEquals(6, counts.getTotal());
+        assertTrue(counts.hasFailures());
+    }
+
+    @Test
+    void summaryCarriesTheUnknownCount() {
+        StatusCounts counts = new StatusCounts();
+        counts.add(Status.PASS);
+        counts.add(Status.FAIL);
+        counts.add(Status.from("flaky"));
+        counts.add(Status.from("bogus"));
+
+        Summary summary = new Summary(1, counts, 100, 0, 100, "QA", "Web");
+        assertEquals(4, summary.getTotalTestCases());
+        assertEquals(1, summary.getPass());
+        assertEquals(1, summary.getFail());
+        assertEquals(0, summary.getSkip());
+        assertEquals(0, summary.getError());
+        assertEquals(2, summary.getUnknown());
+    }
+}
@@ -0,0 +1,53 @@
+package com.codementorsdev.qmeter.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StepInterningTest {
+
+    private static TestCase testCase(SymbolTable symbols, StepSamplingPolicy policy) {
+        TestCase testCase = new TestCase("Case", "", "QA", "API");
+        testCase.setSymbols(symbols);
+        testCase.setStepSampling(policy);
+        return testCase;
+    }
+
+    @Test
+    void sampledCaseInternsOnlyKeptSteps() {
+        SymbolTable symbols = new SymbolTable();
+        TestCase testCase = testCase(symbols, StepSamplingPolicy.sampled(2, 0));
+        for (int i = 0; i < 10; i++) {
+            testCase.recordStep(new TestStep("step " + i, Status.PASS, 1));
+        }
+        testCase.recordStep(new TestStep("broken", Status.FAIL, 1));
+        assertEquals(0, symbols.size(), "nothing is interned while the case runs");
+
+        testCase.end(Status.FAIL); // A failing case keeps its most recent steps
+
+        List<TestStep> steps = testCase.getSteps();
+        assertEquals(List.of("step 8", "step 9", "broken"), steps.stream().map(TestStep::getDescription).toList());
+        assertEquals(3, symbols.size());
+        assertEquals(-1, symbols.idOf("step 0"));
+        for (TestStep step : steps) {
+            assertSame(symbols.intern(step.getDescription()), step.getDescription());
+        }
+        assertTrue(testCase.getStepSummaries().stream().anyMatch(summary -> summary.getDescription().equals("step 0")));
+    }
+
+    @Test
+    void unsampledCaseInternsAtRecordTime() {
+        SymbolTable symbols = new SymbolTable();
+        TestCase testCase = testCase(symbols, StepSamplingPolicy.keepAll());
+        testCase.recordStep(new TestStep(new String("login"), Status.PASS, 1));
+        testCase.recordStep(new TestStep(new String("login"), Status.PASS, 1));
+
+        List<TestStep> steps = testCase.getSteps();
+        assertEquals(1, symbols.size());
+        assertSame(steps.get(0).getDescription(), steps.get(1).getDescription());
+    }
+}
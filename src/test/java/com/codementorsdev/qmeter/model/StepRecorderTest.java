@@ -0,0 +1,200 @@
+package com.codementorsdev.qmeter.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StepRecorderTest {
+
+    private static StepRecorder recorder(int retainLast, int reservoirSize, long seed) {
+        return new StepRecorder(StepSamplingPolicy.sampled(retainLast, reservoirSize), new Random(seed));
+    }
+
+    private static void recordPassing(StepRecorder recorder, int from, int to) {
+        for (int i = from; i < to; i++) {
+            recorder.record(new TestStep("step " + i, Status.PASS, 1));
+        }
+    }
+
+    private static List<String> descriptions(List<TestStep> steps) {
+        return steps.stream().map(TestStep::getDescription).toList();
+    }
+
+    private static Map<String, StepSummary> summaries(StepRecorder recorder) {
+        return recorder.getSummaries().stream().collect(Collectors.toMap(StepSummary::getDescription, Function.identity()));
+    }
+
+    @Test
+    void caseThatNeverOverflowsKeepsEveryStep() {
+        StepRecorder recorder = recorder(5, 2, 1);
+        recordPassing(recorder, 0, 5);
+
+        assertEquals(List.of("step 0", "step 1", "step 2", "step 3", "step 4"), descriptions(recorder.finish(Status.PASS)));
+        assertTrue(recorder.getSummaries().isEmpty());
+        assertEquals(5, recorder.getRecordedCount());
+    }
+
+    @Test
+    void ringBufferHoldsTheMostRecentPassingSteps() {
+        StepRecorder recorder = recorder(3, 0, 1);
+        recordPassing(recorder, 0, 10);
+
+        assertEquals(List.of("step 7", "step 8", "step 9"), descriptions(recorder.snapshot()));
+        // snapshot() leaves the recorder alone
+        assertEquals(List.of("step 7", "step 8", "step 9"), descriptions(recorder.snapshot()));
+        assertEquals(7, summaries(recorder).size());
+        assertEquals(10, recorder.getRecordedCount());
+    }
+
+    @Test
+    void passingCaseFoldsTheBufferIntoSummaries() {
+        StepRecorder recorder = recorder(3, 0, 1);
+        recordPassing(recorder, 0, 10);
+
+        assertTrue(recorder.finish(Status.PASS).isEmpty());
+        Map<String, StepSummary> summaries = summaries(recorder);
+        assertEquals(10, summaries.size());
+        assertEquals(10, summaries.values().stream().mapToLong(StepSummary::getCount).sum());
+    }
+
+    @Test
+    void failingCaseKeepsItsRetroactiveBuffer() {
+        StepRecorder recorder = recorder(3, 0, 1);
+        recordPassing(recorder, 0, 100);
+        recorder.record(new TestStep("assert total", Status.FAIL, 1));
+
+        assertTrue(recorder.hasFailedStep());
+        List<TestStep> kept = recorder.finish(Status.FAIL);
+        assertEquals(List.of("step 97", "step 98", "step 99", "assert total"), descriptions(kept));
+        assertEquals(97, summaries(recorder).values().stream().mapToLong(StepSummary::getCount).sum());
+    }
+
+    @Test
+    void failingTestCaseKeepsTheStepsLeadingUpToTheFailure() {
+        TestCase testCase = new TestCase("Checkout", "", "QA", "Web");
+        testCase.setStepSampling(StepSamplingPolicy.sampled(2, 0));
+        for (int i = 0; i < 50; i++) {
+            testCase.recordStep(new TestStep("step " + i, Status.PASS, 1));
+        }
+        testCase.recordStep(new TestStep("pay", Status.ERROR, 1));
+        testCase.end(Status.ERROR);
+
+        assertEquals(List.of("step 48", "step 49", "pay"), descriptions(testCase.getSteps()));
+        assertEquals(51, testCase.getRecordedStepCount());
+        assertEquals(48, testCase.getStepSummaries().size());
+    }
+
+    @Test
+    void stepsThatDidNotPassAreAlwaysKept() {
+        StepRecorder recorder = recorder(2, 0, 1);
+        recorder.record(new TestStep("skipped", Status.SKIP, 1));
+        recordPassing(recorder, 0, 5);
+        recorder.record(new TestStep("unknown", Status.UNKNOWN, 1));
+        recordPassing(recorder, 5, 10);
+
+        assertFalse(recorder.hasFailedStep(), "skipped and unknown steps are not failures");
+        assertEquals(List.of("skipped", "unknown"), descriptions(recorder.finish(Status.PASS)));
+    }
+
+    @Test
+    void reservoirIsBoundedAndInRecordingOrder() {
+        StepRecorder recorder = recorder(2, 5, 42);
+        recordPassing(recorder, 0, 1000);
+
+        List<TestStep> kept = recorder.finish(Status.PASS);
+        assertEquals(5, kept.size());
+        assertEquals(5, new HashSet<>(descriptions(kept)).size());
+        List<Integer> indexes = kept.stream().map(step -> Integer.parseInt(step.getDescription().substring(5))).toList();
+        List<Integer> sorted = new ArrayList<>(indexes);
+        sorted.sort(null);
+        assertEquals(sorted, indexes);
+        // Sampled steps are still counted in the summaries
+        assertEquals(1000, summaries(recorder).values().stream().mapToLong(StepSummary::getCount).sum());
+    }
+
+    @Test
+    void reservoirKeepsEverythingWhileItHasRoom() {
+        StepRecorder recorder = recorder(2, 10, 42);
+        recordPassing(recorder, 0, 6);
+
+        // 4 steps were evicted from the buffer into the reservoir; the last 2 are folded in when the case passes
+        assertEquals(6, recorder.finish(Status.PASS).size());
+    }
+
+    @Test
+    void seededReservoirIsReproducible() {
+        StepRecorder first = recorder(1, 8, 7);
+        StepRecorder second = recorder(1, 8, 7);
+        recordPassing(first, 0, 500);
+        recordPassing(second, 0, 500);
+
+        assertEquals(descriptions(first.finish(Status.PASS)), descriptions(second.finish(Status.PASS)));
+    }
+
+    @Test
+    void reservoirSampleIsUniform() {
+        int steps = 100;
+        int reservoir = 10;
+        int trials = 4000;
+        int[] hits = new int[steps];
+        Random random = new Random(12345);
+        for (int t = 0; t < trials; t++) {
+            StepRecorder recorder = new StepRecorder(StepSamplingPolicy.sampled(1, reservoir), random);
+            recordPassing(recorder, 0, steps);
+            for (TestStep step : recorder.finish(Status.PASS)) {
+                hits[Integer.parseInt(step.getDescription().substring(5))]++;
+            }
+        }
+        // Every step is kept with probability reservoir / steps
+        double expected = (double) trials * reservoir / steps;
+        for (int i = 0; i < steps; i++) {
+            assertTrue(Math.abs(hits[i] - expected) < expected * 0.25, "step " + i + " kept " + hits[i] + " times, expected about " + expected);
+        }
+    }
+
+    @Test
+    void summariesAggregateDurationsPerDescription() {
+        StepRecorder recorder = recorder(1, 0, 1);
+        long[] clickDurations = {1, 2, 3, 10}; // ms
+        for (long duration : clickDurations) {
+            recorder.record(new TestStep("click", Status.PASS, duration));
+            recorder.record(new TestStep("type", Status.PASS, 4));
+        }
+        recorder.finish(Status.PASS);
+
+        StepSummary click = summaries(recorder).get("click");
+        assertEquals(4, click.getCount());
+        assertEquals(1_000, click.getMinDuration()); // µs
+        assertEquals(10_000, click.getMaxDuration());
+        assertEquals(16_000, click.getTotalDuration());
+        assertEquals(4_000.0, click.getMeanDuration());
+        StepSummary type = summaries(recorder).get("type");
+        assertEquals(4, type.getCount());
+        assertEquals(4_000, type.getMinDuration());
+        assertEquals(4_000, type.getMaxDuration());
+    }
+
+    @Test
+    void emptySummaryHasZeroMean() {
+        assertEquals(0.0, new StepSummary("unused").getMeanDuration());
+    }
+
+    @Test
+    void samplingPolicyValidation() {
+        assertTrue(StepSamplingPolicy.keepAll().isKeepAll());
+        assertFalse(StepSamplingPolicy.sampled(1, 0).isKeepAll());
+        assertThrows(IllegalArgumentException.class, () -> StepSamplingPolicy.sampled(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> StepSamplingPolicy.sampled(5, -1));
+    }
+}
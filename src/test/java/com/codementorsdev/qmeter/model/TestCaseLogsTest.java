@@ -0,0 +1,59 @@
+package com.codementorsdev.qmeter.model;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestCaseLogsTest {
+
+    @Test
+    void nullMessagesKeepTheirPlaceInTheArena() throws Exception {
+        TestCase testCase = new TestCase("Case", "", "QA", "API");
+        testCase.setTextArena(new TextArena());
+        testCase.addLog("first");
+        testCase.addLog(null);
+        testCase.addLog("third");
+
+        assertEquals(Arrays.asList("first", null, "third"), testCase.getLogs());
+        assertEquals(3, testCase.getLogCount());
+
+        JsonNode logs = ReportJson.mapper().readTree(ReportJson.mapper().writeValueAsBytes(testCase)).get("logs");
+        assertEquals(3, logs.size());
+        assertEquals("first", logs.get(0).asText());
+        assertTrue(logs.get(1).isNull());
+        assertEquals("third", logs.get(2).asText());
+    }
+
+    @Test
+    void logCountIncludesHeapAndArenaMessages() {
+        TestCase testCase = new TestCase("Case", "", "QA", "API");
+        assertEquals(0, testCase.getLogCount());
+        testCase.addLog("before the arena");
+        testCase.setTextArena(new TextArena());
+        testCase.addLog("in the arena");
+
+        assertEquals(2, testCase.getLogCount());
+        assertEquals(testCase.getLogs().size(), testCase.getLogCount());
+    }
+
+    @Test
+    void offHeapTextIsGoneOnceTheArenaIsReleased() {
+        TextArena arena = new TextArena();
+        TestCase testCase = new TestCase("Case", "", "QA", "API");
+        testCase.setTextArena(arena);
+        testCase.addLog("in the arena");
+        TestEvent event = new TestEvent(1, "Info", "event message", arena);
+
+        arena.release();
+        assertTrue(arena.isReleased());
+        assertEquals(List.of(), testCase.getLogs());
+        assertNull(event.getMessage());
+    }
+}
@@ -0,0 +1,217 @@
+package com.codementorsdev.qmeter.reader;
+
+import com.codementorsdev.qmeter.json.ReportJson;
+import com.codementorsdev.qmeter.model.ReportData;
+import com.codementorsdev.qmeter.model.Status;
+import com.codementorsdev.qmeter.model.StatusCounts;
+import com.codementorsdev.qmeter.model.Summary;
+import com.codementorsdev.qmeter.model.SymbolTable;
+import com.codementorsdev.qmeter.model.TestCase;
+import com.codementorsdev.qmeter.model.TestStep;
+import com.codementorsdev.qmeter.model.TestSuite;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportReaderTest {
+
+    @TempDir
+    Path directory;
+
+    private static TestCase testCase(SymbolTable symbols, String name, Status status, String environment, String platform) {
+        TestCase testCase = new TestCase(name, "", symbols.intern(environment), symbols.intern(platform));
+        testCase.setSymbols(symbols);
+        testCase.recordStep(new TestStep("Open page", Status.PASS, 5));
+        testCase.recordStep(new TestStep("Submit form", status, 7));
+        testCase.addLog("Résumé ✓ " + name); // Multi-byte UTF-8 shifts the byte offsets of everything after it
+        testCase.end(status);
+        return testCase;
+    }
+
+    private static TestSuite suite(String name, TestCase... testCases) {
+        TestSuite suite = new TestSuite();
+        suite.setName(name);
+        suite.setTestCases(new ArrayList<>(List.of(testCases)));
+        return suite;
+    }
+
+    /**
+     * @param extraCase Whether to add a fifth test case, giving a different report of the same run.
+     */
+    private static byte[] reportJson(boolean extraCase) throws IOException {
+        SymbolTable symbols = new SymbolTable();
+        List<TestSuite> suites = new ArrayList<>();
+        suites.add(suite("Login",
+                testCase(symbols, "Login with password", Status.PASS, "QA", "Web"),
+                testCase(symbols, "Login locked out", Status.FAIL, "QA", "Mobile")));
+        suites.add(suite("Checkout",
+                testCase(symbols, "Checkout with card", Status.PASS, "Staging", "Web"),
+                testCase(symbols, "Checkout with voucher", Status.ERROR, "Staging", "Mobile")));
+        if (extraCase) {
+            suites.get(1).getTestCases().add(testCase(symbols, "Checkout as guest", Status.PASS, "Staging", "Web"));
+        }
+        ReportData data = new ReportData(suites, new Summary(2, new StatusCounts(), 10, 0, 10, "QA", "Web"));
+        data.setSymbols(symbols);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReportJson.write(out, data);
+        return out.toByteArray();
+    }
+
+    private Path writeReport(String fileName, byte[] content) throws IOException {
+        Path file = directory.resolve(fileName);
+        Files.write(file, content);
+        return file;
+    }
+
+    private static List<String> names(List<IndexedTestCase> entries) {
+        return entries.stream().map(IndexedTestCase::getName).toList();
+    }
+
+    private static ReportQuery prefix(String namePrefix) {
+        return ReportQuery.builder().namePrefix(namePrefix).build();
+    }
+
+    @Test
+    void sidecarIndexRoundTrip() throws IOException {
+        Path report = writeReport("report.json", reportJson(false));
+        ReportReader reader = ReportReader.open(report);
+        Path indexFile = ReportReader.indexFileFor(report);
+        assertTrue(Files.exists(indexFile));
+
+        ReportIndex loaded = ReportIndex.load(indexFile, ReportJson.reader().getFactory());
+        assertNotNull(loaded);
+        assertEquals(Files.size(report), loaded.getSourceSize());
+        assertEquals(Files.getLastModifiedTime(report).toMillis(), loaded.getSourceModified());
+        assertArrayEquals(reader.getIndex().getStrings(), loaded.getStrings());
+        List<IndexedTestCase> expected = reader.getIndex().getEntries();
+        List<IndexedTestCase> actual = loaded.getEntries();
+        assertEquals(4, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            assertEquals(expected.get(i).getSuiteName(), actual.get(i).getSuiteName());
+            assertEquals(expected.get(i).getName(), actual.get(i).getName());
+            assertEquals(expected.get(i).getStatus(), actual.get(i).getStatus());
+            assertEquals(expected.get(i).getEnvironment(), actual.get(i).getEnvironment());
+            assertEquals(expected.get(i).getPlatform(), actual.get(i).getPlatform());
+            assertEquals(expected.get(i).getOffset(), actual.get(i).getOffset());
+            assertEquals(expected.get(i).getLength(), actual.get(i).getLength());
+        }
+
+        // Reopening loads the sidecar and answers queries the same way
+        ReportReader reopened = ReportReader.open(report);
+        assertEquals(names(expected), names(reopened.query(ReportQuery.builder().build())));
+        IndexedTestCase failed = reopened.query(ReportQuery.builder().status(Status.FAIL).build()).get(0);
+        assertEquals("Login locked out", reopened.readTestCase(failed).get("name").asText());
+    }
+
+    @Test
+    void staleIndexIsRebuilt() throws IOException {
+        Path report = writeReport("report.json", reportJson(false));
+        ReportReader.open(report);
+        long indexedSize = Files.size(report);
+
+        Files.write(report, reportJson(true));
+        ReportReader reader = ReportReader.open(report);
+        assertEquals(5, reader.getIndex().getEntries().size());
+        List<IndexedTestCase> added = reader.query(prefix("Checkout as"));
+        assertEquals(List.of("Checkout as guest"), names(added));
+        assertEquals("Checkout as guest", reader.readTestCase(added.get(0)).get("name").asText());
+
+        ReportIndex saved = ReportIndex.load(ReportReader.indexFileFor(report), ReportJson.reader().getFactory());
+        assertNotEquals(indexedSize, saved.getSourceSize());
+        assertEquals(Files.size(report), saved.getSourceSize());
+        assertEquals(5, saved.getEntries().size());
+    }
+
+    @Test
+    void rewriteWithSameSizeAndTimeIsDetected() throws IOException {
+        byte[] original = reportJson(false);
+        Path report = writeReport("report.json", original);
+        FileTime modified = Files.getLastModifiedTime(report);
+        ReportReader.open(report);
+
+        // Same length and modification time, different content: only the fingerprint tells them apart
+        String renamed = new String(original, StandardCharsets.UTF_8).replace("Login locked out", "Login locked off");
+        Files.write(report, renamed.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(report, modified);
+        assertEquals(original.length, Files.size(report));
+
+        ReportReader reader = ReportReader.open(report);
+        assertEquals(List.of("Login locked off"), names(reader.query(prefix("Login locked"))));
+        ReportIndex saved = ReportIndex.load(ReportReader.indexFileFor(report), ReportJson.reader().getFactory());
+        assertEquals(ReportReader.fingerprint(report, Files.size(report)), saved.getSourceFingerprint());
+    }
+
+    @Test
+    void fingerprintCoversBothEndsOfLargeReports() throws IOException {
+        byte[] content = new byte[5 * ReportReader.FINGERPRINT_SPAN];
+        Path report = writeReport("large.json", content);
+        long fingerprint = ReportReader.fingerprint(report, content.length);
+
+        content[content.length - 1] = 1;
+        Files.write(report, content);
+        assertNotEquals(fingerprint, ReportReader.fingerprint(report, content.length));
+        content[content.length - 1] = 0;
+        content[2 * ReportReader.FINGERPRINT_SPAN] = 1; // The middle is not covered
+        Files.write(report, content);
+        assertEquals(fingerprint, ReportReader.fingerprint(report, content.length));
+    }
+
+    @Test
+    void prefixSearch() throws IOException {
+        ReportReader reader = ReportReader.open(writeReport("report.json", reportJson(false)));
+
+        assertEquals(List.of("Login with password", "Login locked out"), names(reader.query(prefix("Login"))));
+        assertEquals(List.of("Checkout with card", "Checkout with voucher"), names(reader.query(prefix("Checkout with"))));
+        assertEquals(List.of("Checkout with voucher"), names(reader.query(prefix("Checkout with v"))));
+        assertTrue(reader.query(prefix("Logout")).isEmpty());
+        assertEquals(List.of("Login locked out"),
+                names(reader.query(ReportQuery.builder().namePrefix("Login").platform("Mobile").build())));
+        assertEquals(List.of("Checkout with voucher"),
+                names(reader.query(ReportQuery.builder().status(Status.FAIL, Status.ERROR).suiteName("Checkout").build())));
+    }
+
+    @Test
+    void readTestCaseSlicesHtmlReportAndResolvesStrings() throws IOException {
+        byte[] json = reportJson(false);
+        ByteArrayOutputStream html = new ByteArrayOutputStream();
+        html.write("<!DOCTYPE html><html><head><title>Rapport d'exécution</title></head><body><script>\nwindow.REPORT_DATA = ".getBytes(StandardCharsets.UTF_8));
+        html.write(json);
+        html.write(";\n</script></body></html>\n".getBytes(StandardCharsets.UTF_8));
+        ReportReader reader = ReportReader.open(writeReport("report.html", html.toByteArray()));
+
+        // Environments, platforms and step descriptions are dictionary encoded, so reading them back needs the string table
+        assertTrue(reader.getIndex().getStrings().length > 0);
+        assertTrue(new String(json, StandardCharsets.UTF_8).matches("(?s).*\"description\":\\d.*"));
+
+        for (IndexedTestCase entry : reader.query(ReportQuery.builder().build())) {
+            JsonNode testCase = reader.readTestCase(entry);
+            assertEquals(entry.getId(), testCase.get("id").asText());
+            assertEquals(entry.getName(), testCase.get("name").asText());
+            assertEquals(entry.getEnvironment(), testCase.get("environment").asText());
+            assertEquals(entry.getPlatform(), testCase.get("platform").asText());
+            assertEquals("Open page", testCase.get("steps").get(0).get("description").asText());
+            assertEquals("Submit form", testCase.get("steps").get(1).get("description").asText());
+            assertEquals("Résumé ✓ " + entry.getName(), testCase.get("logs").get(0).asText());
+        }
+        IndexedTestCase locked = reader.query(prefix("Login locked")).get(0);
+        assertEquals("QA", locked.getEnvironment());
+        assertEquals("Mobile", locked.getPlatform());
+        assertEquals(Status.FAIL, locked.getStatus());
+    }
+}